@@ -1,80 +1,260 @@
 package ru.dzhioev.petstore.api.clients;
 
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.transport.ApiRequest;
+import ru.dzhioev.petstore.api.transport.HttpCallCounter;
+import ru.dzhioev.petstore.api.transport.HttpTransport;
+import ru.dzhioev.petstore.api.transport.HttpTransports;
+import ru.dzhioev.petstore.api.transport.JdkHttpTransport;
+import ru.dzhioev.petstore.api.transport.LightResponse;
+import ru.dzhioev.petstore.api.transport.LightResponseMode;
+import ru.dzhioev.petstore.api.transport.StreamedBody;
+import ru.dzhioev.petstore.cleanup.ResourceRegistry;
+import ru.dzhioev.petstore.cleanup.ResourceType;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.load.EndpointLatencyRecorder;
+import ru.dzhioev.petstore.profiling.HttpCallEvent;
+import ru.dzhioev.petstore.utils.JsonArrayInputStream;
 
+import java.util.Iterator;
 import java.util.Map;
-
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 @Slf4j
 public abstract class BaseClient {
 
+    protected static final TestConfig config = TestConfig.getInstance();
+
+    private static final boolean trackResources =
+            Boolean.parseBoolean(config.property("cleanup.tracking.enabled", "true"));
+
+    private static final ThreadLocal<int[]> retryAttempt = ThreadLocal.withInitial(() -> new int[1]);
+
     protected RequestSpecification requestSpec;
 
+    @Getter
+    protected final HttpTransport transport;
+
+    private final JdkHttpTransport lightTransport;
+
     protected BaseClient(RequestSpecification requestSpec) {
+        this(requestSpec, HttpTransports.create(config.getHttpTransport(), requestSpec));
+    }
+
+    protected BaseClient(RequestSpecification requestSpec, HttpTransport transport) {
         this.requestSpec = requestSpec;
+        this.transport = transport;
+        this.lightTransport = transport instanceof JdkHttpTransport jdk ? jdk : HttpTransports.jdk(requestSpec);
+    }
+
+    protected Response execute(ApiRequest request) {
+        return instrumented(request, transport.name(), sentBytes -> transport.execute(request, sentBytes),
+                Response::getStatusCode, BaseClient::bytesReceived);
+    }
+
+    protected CompletableFuture<Response> executeAsync(ApiRequest request) {
+        CallProbe probe = new CallProbe(request, transport.name());
+        return transport.executeAsync(request, probe::sent)
+                .whenComplete((response, error) ->
+                        probe.finish(response, Response::getStatusCode, BaseClient::bytesReceived));
+    }
+
+    protected LightResponse executeLight(ApiRequest request, LightResponseMode mode) {
+        return instrumented(request, lightTransport.name(),
+                sentBytes -> lightTransport.executeLight(request, mode, sentBytes),
+                LightResponse::getStatusCode, LightResponse::getBodyBytes);
+    }
+
+    private static <T> T instrumented(ApiRequest request, String transportName, Function<LongConsumer, T> call,
+                                      ToIntFunction<T> statusOf, ToLongFunction<T> bytesReceivedOf) {
+        CallProbe probe = new CallProbe(request, transportName);
+        T result = null;
+        try {
+            result = call.apply(probe::sent);
+            return result;
+        } finally {
+            probe.finish(result, statusOf, bytesReceivedOf);
+        }
+    }
+
+    /**
+     * Instrumentation of one HTTP call: the call counter, the per-endpoint latency profile and the
+     * JFR event. A result of {@code null} means the call failed without a response.
+     */
+    private static final class CallProbe {
+        private final HttpCallEvent event = new HttpCallEvent();
+        private final String method;
+        private final String path;
+        private final String transportName;
+        private final int retries;
+        private final long start;
+
+        CallProbe(ApiRequest request, String transportName) {
+            HttpCallCounter.increment();
+            this.method = methodOf(request);
+            this.path = request.getPath();
+            this.transportName = transportName;
+            this.retries = retryAttempt.get()[0];
+            event.begin();
+            this.start = System.nanoTime();
+        }
+
+        void sent(long bytes) {
+            event.setBytesSent(bytes);
+        }
+
+        <T> void finish(T result, ToIntFunction<T> statusOf, ToLongFunction<T> bytesReceivedOf) {
+            int status = result == null ? 0 : statusOf.applyAsInt(result);
+            EndpointLatencyRecorder.getInstance().record(method, path, status, start, System.nanoTime());
+            event.finish(method, path, transportName, status, retries,
+                    () -> result == null ? 0 : bytesReceivedOf.applyAsLong(result));
+        }
+    }
+
+    private static String methodOf(ApiRequest request) {
+        return request.getMethod() == null ? Method.GET.name() : request.getMethod().name();
+    }
+
+    private static long bytesReceived(Response response) {
+        return response.asByteArray().length;
     }
 
     protected Response get(String path) {
         log.debug("GET request to: {}", path);
-        return given()
-                .spec(requestSpec)
-                .when()
-                .get(path);
+        return execute(ApiRequest.of(Method.GET, path).build());
     }
 
     protected Response get(String path, Map<String, ?> queryParams) {
         log.debug("GET request to: {} with params: {}", path, queryParams);
-        return given()
-                .spec(requestSpec)
-                .queryParams(queryParams)
-                .when()
-                .get(path);
+        return execute(ApiRequest.of(Method.GET, path).queryParams(queryParams).build());
     }
 
     protected Response get(String path, Object pathParam) {
         log.debug("GET request to: {} with path param: {}", path, pathParam);
-        return given()
-                .spec(requestSpec)
-                .pathParam("id", pathParam)
-                .when()
-                .get(path);
+        return execute(ApiRequest.of(Method.GET, path).pathParam("id", pathParam).build());
     }
 
     protected Response post(String path, Object body) {
         log.debug("POST request to: {} with body: {}", path, body);
-        return given()
-                .spec(requestSpec)
-                .body(body)
-                .when()
-                .post(path);
+        return execute(ApiRequest.of(Method.POST, path).body(body).build());
     }
 
     protected Response put(String path, Object body) {
         log.debug("PUT request to: {} with body: {}", path, body);
-        return given()
-                .spec(requestSpec)
-                .body(body)
-                .when()
-                .put(path);
+        return execute(ApiRequest.of(Method.PUT, path).body(body).build());
     }
 
     protected Response delete(String path) {
         log.debug("DELETE request to: {}", path);
-        return given()
-                .spec(requestSpec)
-                .when()
-                .delete(path);
+        return execute(ApiRequest.of(Method.DELETE, path).build());
     }
 
     protected Response delete(String path, Object pathParam) {
         log.debug("DELETE request to: {} with path param: {}", path, pathParam);
-        return given()
-                .spec(requestSpec)
-                .pathParam("id", pathParam)
-                .when()
-                .delete(path);
+        return execute(ApiRequest.of(Method.DELETE, path).pathParam("id", pathParam).build());
+    }
+
+    /**
+     * Posts the items as a JSON array serialized while it is sent. The body can be sent only once,
+     * so this call is never retried.
+     */
+    protected Response postStream(String path, Iterator<?> items) {
+        log.debug("POST streaming request to: {}", path);
+        return execute(ApiRequest.of(Method.POST, path)
+                .body(StreamedBody.ofStream(() -> new JsonArrayInputStream(items)))
+                .build());
+    }
+
+    protected Response trackCreated(ResourceType type, Long requestedId, Response response) {
+        if (trackResources && response.getStatusCode() == 200) {
+            ResourceRegistry.getInstance().register(type, requestedId != null ? requestedId : extractId(response));
+        }
+        return response;
+    }
+
+    protected Response trackDeleted(ResourceType type, Long id, Response response) {
+        if (trackResources && response.getStatusCode() == 200) {
+            ResourceRegistry.getInstance().unregister(type, id);
+        }
+        return response;
+    }
+
+    protected Response trackUserCreated(String username, Response response) {
+        if (trackResources && response.getStatusCode() == 200) {
+            ResourceRegistry.getInstance().registerUser(username);
+        }
+        return response;
+    }
+
+    protected Response trackUserDeleted(String username, Response response) {
+        if (trackResources && response.getStatusCode() == 200) {
+            ResourceRegistry.getInstance().unregisterUser(username);
+        }
+        return response;
+    }
+
+    protected static boolean isTrackingResources() {
+        return trackResources;
+    }
+
+    private static Long extractId(Response response) {
+        try {
+            Object id = response.jsonPath().get("id");
+            return id instanceof Number number ? number.longValue() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    protected Response withRetry(Supplier<Response> call) {
+        return withRetry(call, () -> {});
+    }
+
+    protected Response withRetry(Supplier<Response> call, Runnable onRetry) {
+        int maxAttempts = Math.max(1, config.getMaxRetryAttempts());
+        int[] retries = retryAttempt.get();
+        try {
+            return retry(call, onRetry, maxAttempts, retries);
+        } finally {
+            retries[0] = 0;
+        }
+    }
+
+    private Response retry(Supplier<Response> call, Runnable onRetry, int maxAttempts, int[] retries) {
+        for (int attempt = 1; ; attempt++) {
+            retries[0] = attempt - 1;
+            try {
+                Response response = call.get();
+                if (response.getStatusCode() < 500 || attempt >= maxAttempts) {
+                    return response;
+                }
+                log.debug("Attempt {}/{} failed with status {}", attempt, maxAttempts, response.getStatusCode());
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("Attempt {}/{} failed: {}", attempt, maxAttempts, e.getMessage());
+            }
+            onRetry.run();
+            sleepBeforeRetry();
+        }
+    }
+
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(config.getRetryDelay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
     }
-}
\ No newline at end of file
+}
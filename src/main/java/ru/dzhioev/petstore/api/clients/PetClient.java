@@ -2,25 +2,63 @@ package ru.dzhioev.petstore.api.clients;
 
 import ru.dzhioev.petstore.api.models.Pet;
 import ru.dzhioev.petstore.api.specs.ApiSpecification;
+import ru.dzhioev.petstore.api.transport.ApiRequest;
+import ru.dzhioev.petstore.api.transport.HttpTransport;
+import ru.dzhioev.petstore.api.transport.LightResponse;
+import ru.dzhioev.petstore.api.transport.LightResponseMode;
+import ru.dzhioev.petstore.api.transport.StreamedBody;
+import ru.dzhioev.petstore.cleanup.ResourceType;
+import ru.dzhioev.petstore.load.UploadMetrics;
+import ru.dzhioev.petstore.utils.CountingInputStream;
 import io.restassured.common.mapper.TypeRef;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class PetClient extends BaseClient {
 
+    private static final long WHOLE_FILE = -1;
+
+    @Getter
+    private final UploadMetrics uploadMetrics;
+
     public PetClient() {
         super(ApiSpecification.getDefaultRequestSpec());
+        this.uploadMetrics = new UploadMetrics();
+    }
+
+    public PetClient(HttpTransport transport) {
+        this(transport, new UploadMetrics());
+    }
+
+    /**
+     * Client whose uploads are recorded only in the given sink, e.g. one per benchmark run.
+     */
+    public PetClient(HttpTransport transport, UploadMetrics uploadMetrics) {
+        super(ApiSpecification.getDefaultRequestSpec(), transport);
+        this.uploadMetrics = uploadMetrics;
     }
 
     public Response addPet(Pet pet) {
-        return post("/pet", pet);
+        return trackCreated(ResourceType.PET, pet.getId(), post("/pet", pet));
     }
 
     public Response updatePet(Pet pet) {
@@ -28,18 +66,25 @@ public class PetClient extends BaseClient {
     }
 
     public Response findPetsByStatus(Pet.PetStatus... statuses) {
-        String statusParam = String.join(",",
-                java.util.Arrays.stream(statuses)
-                        .map(Pet.PetStatus::getValue)
-                        .toArray(String[]::new));
+        return get("/pet/findByStatus", Map.of("status", statusParam(statuses)));
+    }
 
-        return get("/pet/findByStatus", Map.of("status", statusParam));
+    public LightResponse findPetsByStatus(LightResponseMode mode, Pet.PetStatus... statuses) {
+        return executeLight(ApiRequest.of(Method.GET, "/pet/findByStatus")
+                .queryParam("status", statusParam(statuses))
+                .build(), mode);
     }
 
     public Response findPetsByStatus(String status) {
         return get("/pet/findByStatus", Map.of("status", status));
     }
 
+    private static String statusParam(Pet.PetStatus... statuses) {
+        return Arrays.stream(statuses)
+                .map(Pet.PetStatus::getValue)
+                .collect(Collectors.joining(","));
+    }
+
     public Response findPetsByTags(List<String> tags) {
         String tagsParam = String.join(",", tags);
         return get("/pet/findByTags", Map.of("tags", tagsParam));
@@ -49,29 +94,101 @@ public class PetClient extends BaseClient {
         return get("/pet/{id}", petId);
     }
 
+    public LightResponse getPetById(Long petId, LightResponseMode mode) {
+        return executeLight(ApiRequest.of(Method.GET, "/pet/{id}").pathParam("id", petId).build(), mode);
+    }
+
     public Response updatePetWithForm(Long petId, String name, String status) {
-        return given()
-                .spec(requestSpec)
+        return execute(ApiRequest.of(Method.POST, "/pet/{id}")
                 .contentType("application/x-www-form-urlencoded")
                 .pathParam("id", petId)
                 .formParam("name", name)
                 .formParam("status", status)
-                .when()
-                .post("/pet/{id}");
+                .build());
     }
 
     public Response uploadImage(Long petId, File file, String additionalMetadata) {
-        return given()
-                .spec(ApiSpecification.getMultipartRequestSpec())
+        return execute(ApiRequest.of(Method.POST, "/pet/{id}/uploadImage")
+                .contentType("multipart/form-data")
                 .pathParam("id", petId)
                 .multiPart("file", file)
                 .multiPart("additionalMetadata", additionalMetadata)
-                .when()
-                .post("/pet/{id}/uploadImage");
+                .build());
+    }
+
+    public Response uploadImage(Long petId, Path image, String additionalMetadata) {
+        return uploadImage(petId, image, 0, WHOLE_FILE, additionalMetadata);
+    }
+
+    public Response uploadImage(Long petId, Path image, long offset, long length, String additionalMetadata) {
+        return uploadImage(petId, map(image, offset, length), image.getFileName().toString(), additionalMetadata);
+    }
+
+    public Response uploadImage(Long petId, ByteBuffer image, String fileName, String additionalMetadata) {
+        long size = image.remaining();
+        return timedUpload(petId, StreamedBody.ofBuffer(fileName, image), additionalMetadata, () -> size);
+    }
+
+    public Response uploadImage(Long petId, InputStream image, String fileName, String additionalMetadata) {
+        CountingInputStream counting = new CountingInputStream(image);
+        return timedUpload(petId, StreamedBody.ofStream(fileName, () -> counting), additionalMetadata,
+                counting::getCount);
+    }
+
+    private Response timedUpload(Long petId, StreamedBody image, String additionalMetadata, LongSupplier imageBytes) {
+        long start = System.nanoTime();
+        Response response = execute(ApiRequest.of(Method.POST, "/pet/{id}/uploadImage")
+                .contentType("multipart/form-data")
+                .pathParam("id", petId)
+                .multiPart("file", image)
+                .multiPart("additionalMetadata", additionalMetadata)
+                .build());
+        long elapsed = System.nanoTime() - start;
+        long bytes = imageBytes.getAsLong();
+
+        uploadMetrics.record(bytes, start, elapsed);
+        log.debug("Uploaded {} bytes for pet {} in {} ms ({} MB/s)", bytes, petId, elapsed / 1_000_000,
+                String.format("%.2f", UploadMetrics.megabytesPerSecond(bytes, elapsed)));
+        return response;
+    }
+
+    /**
+     * Maps {@code length} bytes from {@code offset}, or up to the end of the file for
+     * {@link #WHOLE_FILE}, through a single channel.
+     */
+    private static MappedByteBuffer map(Path image, long offset, long length) {
+        try (FileChannel channel = FileChannel.open(image, StandardOpenOption.READ)) {
+            long size = length == WHOLE_FILE ? channel.size() - offset : length;
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map image " + image, e);
+        }
     }
 
     public Response deletePet(Long petId) {
-        return delete("/pet/{id}", petId);
+        return trackDeleted(ResourceType.PET, petId, delete("/pet/{id}", petId));
+    }
+
+    public CompletableFuture<Response> addPetAsync(Pet pet) {
+        return executeAsync(ApiRequest.of(Method.POST, "/pet").body(pet).build())
+                .thenApply(response -> trackCreated(ResourceType.PET, pet.getId(), response));
+    }
+
+    /**
+     * Load path for pre-serialized pets. These are not tracked in the resource registry: seeded
+     * datasets are owned by their seeder and checkpoint, and may be kept on purpose between runs.
+     */
+    public CompletableFuture<Response> addPetAsync(byte[] json) {
+        return executeAsync(ApiRequest.of(Method.POST, "/pet").body(json).build());
+    }
+
+    public CompletableFuture<Response> getPetByIdAsync(Long petId) {
+        return executeAsync(ApiRequest.of(Method.GET, "/pet/{id}").pathParam("id", petId).build());
+    }
+
+    public CompletableFuture<Response> deletePetAsync(Long petId) {
+        return executeAsync(ApiRequest.of(Method.DELETE, "/pet/{id}").pathParam("id", petId).build())
+                .thenApply(response -> trackDeleted(ResourceType.PET, petId, response));
     }
 
     public List<Pet> getPetsByStatus(Pet.PetStatus... statuses) {
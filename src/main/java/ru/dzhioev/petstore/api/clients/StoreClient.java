@@ -2,10 +2,17 @@ package ru.dzhioev.petstore.api.clients;
 
 import ru.dzhioev.petstore.api.models.Order;
 import ru.dzhioev.petstore.api.specs.ApiSpecification;
+import ru.dzhioev.petstore.api.transport.ApiRequest;
+import ru.dzhioev.petstore.api.transport.HttpTransport;
+import ru.dzhioev.petstore.api.transport.LightResponse;
+import ru.dzhioev.petstore.api.transport.LightResponseMode;
+import ru.dzhioev.petstore.cleanup.ResourceType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 public class StoreClient extends BaseClient {
@@ -14,12 +21,20 @@ public class StoreClient extends BaseClient {
         super(ApiSpecification.getDefaultRequestSpec());
     }
 
+    public StoreClient(HttpTransport transport) {
+        super(ApiSpecification.getDefaultRequestSpec(), transport);
+    }
+
     public Response getInventory() {
         return get("/store/inventory");
     }
 
+    public LightResponse getInventory(LightResponseMode mode) {
+        return executeLight(ApiRequest.of(Method.GET, "/store/inventory").build(), mode);
+    }
+
     public Response placeOrder(Order order) {
-        return post("/store/order", order);
+        return trackCreated(ResourceType.ORDER, order.getId(), post("/store/order", order));
     }
 
     public Response getOrderById(Long orderId) {
@@ -27,7 +42,16 @@ public class StoreClient extends BaseClient {
     }
 
     public Response deleteOrder(Long orderId) {
-        return delete("/store/order/{id}", orderId);
+        return trackDeleted(ResourceType.ORDER, orderId, delete("/store/order/{id}", orderId));
+    }
+
+    public CompletableFuture<Response> placeOrderAsync(Order order) {
+        return executeAsync(ApiRequest.of(Method.POST, "/store/order").body(order).build())
+                .thenApply(response -> trackCreated(ResourceType.ORDER, order.getId(), response));
+    }
+
+    public CompletableFuture<Response> getOrderByIdAsync(Long orderId) {
+        return executeAsync(ApiRequest.of(Method.GET, "/store/order/{id}").pathParam("id", orderId).build());
     }
 
     public Map<String, Integer> getInventoryMap() {
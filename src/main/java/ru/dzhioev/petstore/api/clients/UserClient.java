@@ -2,56 +2,201 @@ package ru.dzhioev.petstore.api.clients;
 
 import ru.dzhioev.petstore.api.models.User;
 import ru.dzhioev.petstore.api.specs.ApiSpecification;
+import ru.dzhioev.petstore.api.transport.ApiRequest;
+import ru.dzhioev.petstore.api.transport.HttpTransport;
+import ru.dzhioev.petstore.load.BulkCreateResult;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @Slf4j
 public class UserClient extends BaseClient {
 
+    private static final DateTimeFormatter EXPIRES_AFTER_FORMAT =
+            DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
+
     public UserClient() {
         super(ApiSpecification.getDefaultRequestSpec());
     }
 
+    public UserClient(HttpTransport transport) {
+        super(ApiSpecification.getDefaultRequestSpec(), transport);
+    }
+
     public Response createUser(User user) {
-        return post("/user", user);
+        return trackUserCreated(user.getUsername(), post("/user", user));
     }
 
     public Response createUsersWithList(List<User> users) {
-        return post("/user/createWithList", users);
+        return trackUsersCreated(users, post("/user/createWithList", users));
     }
 
     public Response createUsersWithArray(User[] users) {
-        return post("/user/createWithArray", users);
+        return trackUsersCreated(Arrays.asList(users), post("/user/createWithArray", users));
+    }
+
+    public Response createUsersWithArray(Stream<User> users) {
+        try (users) {
+            return createUsersWithArray(users.iterator());
+        }
+    }
+
+    public Response createUsersWithArray(Iterator<User> users) {
+        return postUsers("/user/createWithArray", users);
+    }
+
+    public Response createUsersWithList(Iterator<User> users) {
+        return postUsers("/user/createWithList", users);
+    }
+
+    private Response trackUsersCreated(List<User> users, Response response) {
+        users.forEach(user -> trackUserCreated(user.getUsername(), response));
+        return response;
+    }
+
+    /**
+     * Streams the users and, like {@link #trackUsersCreated}, registers them only once the server
+     * has confirmed the request; only their names are kept while the body is being sent.
+     */
+    private Response postUsers(String path, Iterator<User> users) {
+        if (!isTrackingResources()) {
+            return postStream(path, users);
+        }
+        List<String> usernames = new ArrayList<>();
+        Response response = postStream(path, new Iterator<User>() {
+            @Override
+            public boolean hasNext() {
+                return users.hasNext();
+            }
+
+            @Override
+            public User next() {
+                User user = users.next();
+                usernames.add(user.getUsername());
+                return user;
+            }
+        });
+        usernames.forEach(username -> trackUserCreated(username, response));
+        return response;
+    }
+
+    public BulkCreateResult createUsersInBatches(List<User> users) {
+        return createUsersInBatches(users, config.getBulkBatchSize(), config.getBulkParallelism());
+    }
+
+    public BulkCreateResult createUsersInBatches(List<User> users, int batchSize, int parallelism) {
+        if (batchSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Batch size and parallelism must be positive");
+        }
+
+        List<List<User>> batches = new ArrayList<>();
+        for (int from = 0; from < users.size(); from += batchSize) {
+            batches.add(users.subList(from, Math.min(from + batchSize, users.size())));
+        }
+
+        AtomicInteger retries = new AtomicInteger();
+        int createdCount = 0;
+        int failedCount = 0;
+        int failedBatches = 0;
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<Boolean>> futures = new ArrayList<>(batches.size());
+            for (List<User> batch : batches) {
+                futures.add(executor.submit(() -> sendBatch(batch, retries)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                if (awaitBatch(futures.get(i))) {
+                    createdCount += batches.get(i).size();
+                } else {
+                    failedCount += batches.get(i).size();
+                    failedBatches++;
+                }
+            }
+        }
+
+        BulkCreateResult result = BulkCreateResult.builder()
+                .batchSize(batchSize)
+                .parallelism(parallelism)
+                .totalBatches(batches.size())
+                .failedBatches(failedBatches)
+                .createdCount(createdCount)
+                .failedCount(failedCount)
+                .retries(retries.get())
+                .elapsedNanos(System.nanoTime() - start)
+                .build();
+        log.info("Bulk user creation finished: {}", result.summary());
+        return result;
+    }
+
+    private boolean sendBatch(List<User> batch, AtomicInteger retries) {
+        try {
+            return withRetry(() -> createUsersWithList(batch), retries::incrementAndGet)
+                    .getStatusCode() == 200;
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} users failed: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean awaitBatch(Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for user batches", e);
+        } catch (ExecutionException e) {
+            log.warn("Batch execution failed", e.getCause());
+            return false;
+        }
     }
 
     public Response getUserByUsername(String username) {
-        return given()
-                .spec(requestSpec)
+        return execute(ApiRequest.of(Method.GET, "/user/{username}")
                 .pathParam("username", username)
-                .when()
-                .get("/user/{username}");
+                .build());
     }
 
     public Response updateUser(String username, User user) {
-        return given()
-                .spec(requestSpec)
+        return execute(ApiRequest.of(Method.PUT, "/user/{username}")
                 .pathParam("username", username)
                 .body(user)
-                .when()
-                .put("/user/{username}");
+                .build());
     }
 
     public Response deleteUser(String username) {
-        return given()
-                .spec(requestSpec)
+        return trackUserDeleted(username, execute(ApiRequest.of(Method.DELETE, "/user/{username}")
                 .pathParam("username", username)
-                .when()
-                .delete("/user/{username}");
+                .build()));
+    }
+
+    public CompletableFuture<Response> createUserAsync(User user) {
+        return executeAsync(ApiRequest.of(Method.POST, "/user").body(user).build())
+                .thenApply(response -> trackUserCreated(user.getUsername(), response));
+    }
+
+    public CompletableFuture<Response> getUserByUsernameAsync(String username) {
+        return executeAsync(ApiRequest.of(Method.GET, "/user/{username}").pathParam("username", username).build());
     }
 
     public Response loginUser(String username, String password) {
@@ -61,6 +206,46 @@ public class UserClient extends BaseClient {
         ));
     }
 
+    public UserSession login(String username, String password) {
+        return toSession(username, password, loginUser(username, password));
+    }
+
+    public CompletableFuture<UserSession> loginAsync(String username, String password) {
+        return executeAsync(ApiRequest.of(Method.GET, "/user/login")
+                .queryParams(Map.of("username", username, "password", password))
+                .build())
+                .thenApply(response -> toSession(username, password, response));
+    }
+
+    public UserSessionPool createSessionPool() {
+        return createSessionPool(Integer.parseInt(config.property("session.pool.size", "4")));
+    }
+
+    public UserSessionPool createSessionPool(int size) {
+        return new UserSessionPool(this, size, Duration.parse(config.property("session.refresh.margin", "PT30S")));
+    }
+
+    private static UserSession toSession(String username, String password, Response response) {
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Login of " + username + " failed: status " + response.getStatusCode());
+        }
+        String message = response.jsonPath().getString("message");
+        String token = message.substring(message.lastIndexOf(':') + 1);
+        return new UserSession(username, password, token, expiryOf(response));
+    }
+
+    private static Instant expiryOf(Response response) {
+        String expiresAfter = response.getHeader("X-Expires-After");
+        if (expiresAfter != null) {
+            try {
+                return ZonedDateTime.parse(expiresAfter, EXPIRES_AFTER_FORMAT).toInstant();
+            } catch (DateTimeParseException e) {
+                log.debug("Unparseable X-Expires-After header: {}", expiresAfter);
+            }
+        }
+        return Instant.now().plus(Duration.parse(config.property("session.ttl", "PT1H")));
+    }
+
     public Response logoutUser() {
         return get("/user/logout");
     }
@@ -0,0 +1,18 @@
+package ru.dzhioev.petstore.api.clients;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Value
+public class UserSession {
+    String username;
+    String password;
+    String token;
+    Instant expiresAt;
+
+    public boolean expiresWithin(Duration margin) {
+        return !Instant.now().plus(margin).isBefore(expiresAt);
+    }
+}
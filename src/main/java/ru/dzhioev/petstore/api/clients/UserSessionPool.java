@@ -0,0 +1,130 @@
+package ru.dzhioev.petstore.api.clients;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.models.User;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Logged-in users shared by tests and load workers. Users are created with a single list request
+ * and logged in concurrently; a lease hands out one session exclusively and returns it to the
+ * pool when closed. A session is logged in again only when its token is about to expire.
+ */
+@Slf4j
+public class UserSessionPool implements AutoCloseable {
+
+    private final UserClient userClient;
+    private final Duration refreshMargin;
+    private final BlockingQueue<UserSession> idle;
+    private final List<String> usernames = new ArrayList<>();
+    private final AtomicInteger logins = new AtomicInteger();
+    private volatile boolean closed;
+
+    UserSessionPool(UserClient userClient, int size, Duration refreshMargin) {
+        this.userClient = userClient;
+        this.refreshMargin = refreshMargin;
+        this.idle = new ArrayBlockingQueue<>(size);
+
+        long start = System.nanoTime();
+        List<User> users = new ArrayList<>(size);
+        long id = TestDataGenerator.generateValidId();
+        for (int i = 0; i < size; i++) {
+            User user = TestDataGenerator.generateUser();
+            user.setUsername("session_" + id + "_" + i);
+            users.add(user);
+            usernames.add(user.getUsername());
+        }
+        Response created = userClient.createUsersWithList(users);
+        if (created.getStatusCode() != 200) {
+            throw new IllegalStateException("Failed to create session pool users: status " + created.getStatusCode());
+        }
+
+        List<CompletableFuture<UserSession>> sessions = users.stream()
+                .map(user -> userClient.loginAsync(user.getUsername(), user.getPassword()))
+                .toList();
+        sessions.forEach(session -> idle.add(session.join()));
+        logins.addAndGet(size);
+        log.debug("Logged in {} pooled sessions in {} ms", size, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public Lease lease() {
+        try {
+            return lease(idle.take());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a session", e);
+        }
+    }
+
+    public Lease lease(Duration timeout) {
+        try {
+            UserSession session = idle.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            if (session == null) {
+                throw new IllegalStateException("No session became free within " + timeout);
+            }
+            return lease(session);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a session", e);
+        }
+    }
+
+    private Lease lease(UserSession session) {
+        if (closed) {
+            throw new IllegalStateException("Session pool is closed");
+        }
+        if (session.expiresWithin(refreshMargin)) {
+            try {
+                session = userClient.login(session.getUsername(), session.getPassword());
+                logins.incrementAndGet();
+            } catch (RuntimeException e) {
+                idle.add(session);
+                throw e;
+            }
+        }
+        return new Lease(session);
+    }
+
+    public int getLoginCount() {
+        return logins.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        CleanupQueue cleanup = CleanupQueue.getInstance();
+        usernames.forEach(cleanup::deleteUser);
+        cleanup.awaitIdle();
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final UserSession session;
+        private boolean released;
+
+        private Lease(UserSession session) {
+            this.session = session;
+        }
+
+        public UserSession getSession() {
+            return session;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                idle.add(session);
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package ru.dzhioev.petstore.api.models;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.*;
 
 import java.util.List;
@@ -30,11 +32,14 @@ public class Pet {
     @JsonProperty("status")
     private PetStatus status;
 
-    @Getter
+    /**
+     * Written as the lowercase values the API documents; read case-insensitively, since other
+     * clients of the shared server store statuses in any case.
+     */
     public enum PetStatus {
-        AVAILABLE("AVAILABLE"),
-        PENDING("PENDING"),
-        SOLD("SOLD");
+        AVAILABLE("available"),
+        PENDING("pending"),
+        SOLD("sold");
 
         private final String value;
 
@@ -42,5 +47,19 @@ public class Pet {
             this.value = value;
         }
 
+        @JsonValue
+        public String getValue() {
+            return value;
+        }
+
+        @JsonCreator
+        public static PetStatus fromValue(String value) {
+            for (PetStatus status : values()) {
+                if (status.value.equalsIgnoreCase(value)) {
+                    return status;
+                }
+            }
+            throw new IllegalArgumentException("Unknown pet status: " + value);
+        }
     }
-}
\ No newline at end of file
+}
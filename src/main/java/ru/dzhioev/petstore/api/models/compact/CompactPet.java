@@ -0,0 +1,21 @@
+package ru.dzhioev.petstore.api.models.compact;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import ru.dzhioev.petstore.api.models.Pet;
+
+import java.util.List;
+
+/**
+ * Immutable pet for load paths that only serialize. Category, tags and photo URL lists are
+ * expected to be shared instances, see {@code TestDataGenerator.generateCompactPet}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompactPet(
+        @JsonProperty("id") long id,
+        @JsonProperty("category") CompactCategory category,
+        @JsonProperty("name") String name,
+        @JsonProperty("photoUrls") List<String> photoUrls,
+        @JsonProperty("tags") List<CompactTag> tags,
+        @JsonProperty("status") Pet.PetStatus status) {
+}
@@ -0,0 +1,8 @@
+package ru.dzhioev.petstore.api.models.compact;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CompactTag(
+        @JsonProperty("id") long id,
+        @JsonProperty("name") String name) {
+}
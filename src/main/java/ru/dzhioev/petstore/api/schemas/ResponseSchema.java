@@ -0,0 +1,17 @@
+package ru.dzhioev.petstore.api.schemas;
+
+import lombok.Getter;
+
+@Getter
+public enum ResponseSchema {
+    PET("/schemas/pet.json"),
+    ORDER("/schemas/order.json"),
+    USER("/schemas/user.json"),
+    API_RESPONSE("/schemas/api-response.json");
+
+    private final String resource;
+
+    ResponseSchema(String resource) {
+        this.resource = resource;
+    }
+}
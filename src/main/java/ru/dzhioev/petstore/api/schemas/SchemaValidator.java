@@ -0,0 +1,94 @@
+package ru.dzhioev.petstore.api.schemas;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import io.restassured.response.Response;
+import lombok.experimental.UtilityClass;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Validates response bodies against the schemas in {@link ResponseSchema}. Each schema is loaded
+ * and compiled once; the compiled {@link JsonSchema} is immutable and shared by all threads, so a
+ * validation only parses the body and walks the precompiled tree.
+ */
+@UtilityClass
+public class SchemaValidator {
+
+    private static final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private static final Map<ResponseSchema, JsonSchema> schemas = compileAll();
+
+    public static boolean isValid(ResponseSchema schema, String body) {
+        try {
+            return schemas.get(schema).validInstance(JsonLoader.fromString(body));
+        } catch (IOException | ProcessingException e) {
+            return false;
+        }
+    }
+
+    public static ProcessingReport validate(ResponseSchema schema, String body) {
+        try {
+            return schemas.get(schema).validate(JsonLoader.fromString(body));
+        } catch (IOException | ProcessingException e) {
+            throw new IllegalStateException("Failed to validate body against " + schema, e);
+        }
+    }
+
+    public static Response assertValid(ResponseSchema schema, Response response) {
+        String body = response.asString();
+        if (!isValid(schema, body)) {
+            throw new AssertionError("Response does not match " + schema + " schema: " + validate(schema, body));
+        }
+        return response;
+    }
+
+    public static Matcher<String> matchesSchema(ResponseSchema schema) {
+        return new TypeSafeMatcher<>() {
+            @Override
+            protected boolean matchesSafely(String body) {
+                return isValid(schema, body);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a body matching the ").appendValue(schema).appendText(" schema");
+            }
+
+            @Override
+            protected void describeMismatchSafely(String body, Description mismatch) {
+                mismatch.appendText("was ").appendValue(body);
+                try {
+                    mismatch.appendText("\n").appendText(validate(schema, body).toString());
+                } catch (IllegalStateException e) {
+                    mismatch.appendText("\n").appendText(e.getCause().getMessage());
+                }
+            }
+        };
+    }
+
+    private static JsonSchema compile(ResponseSchema schema) {
+        try {
+            JsonNode node = JsonLoader.fromResource(schema.getResource());
+            return factory.getJsonSchema(node);
+        } catch (IOException | ProcessingException e) {
+            throw new IllegalStateException("Failed to load schema " + schema.getResource(), e);
+        }
+    }
+
+    private static Map<ResponseSchema, JsonSchema> compileAll() {
+        Map<ResponseSchema, JsonSchema> compiled = new EnumMap<>(ResponseSchema.class);
+        for (ResponseSchema schema : ResponseSchema.values()) {
+            compiled.put(schema, compile(schema));
+        }
+        return compiled;
+    }
+}
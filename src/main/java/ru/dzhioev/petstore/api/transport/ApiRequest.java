@@ -0,0 +1,45 @@
+package ru.dzhioev.petstore.api.transport;
+
+import io.restassured.http.Method;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@Value
+@Builder(toBuilder = true)
+public class ApiRequest {
+    Method method;
+    String path;
+    String contentType;
+    Object body;
+
+    @Singular
+    Map<String, Object> pathParams;
+
+    @Singular
+    Map<String, Object> queryParams;
+
+    @Singular
+    Map<String, Object> formParams;
+
+    @Singular
+    Map<String, Object> multiParts;
+
+    public static ApiRequestBuilder of(Method method, String path) {
+        return builder().method(method).path(path);
+    }
+
+    public String resolvedPath() {
+        String resolved = path;
+        for (Map.Entry<String, Object> param : pathParams.entrySet()) {
+            String value = URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+            resolved = resolved.replace("{" + param.getKey() + "}", value);
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,67 @@
+package ru.dzhioev.petstore.api.transport;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts HTTP calls issued through the API clients, in total and per open {@link Scope}. A scope
+ * counts the calls started on the thread that opened it and on threads created from that thread
+ * while it was open, such as the workers of executors the test starts for async calls.
+ */
+@UtilityClass
+public class HttpCallCounter {
+
+    private static final LongAdder total = new LongAdder();
+    private static final InheritableThreadLocal<Scope> currentScope = new InheritableThreadLocal<>();
+
+    public static void increment() {
+        total.increment();
+        Scope scope = currentScope.get();
+        if (scope != null && scope.open) {
+            scope.calls.increment();
+        }
+    }
+
+    public static long totalCount() {
+        return total.sum();
+    }
+
+    /**
+     * Opens a scope on the current thread; closing it restores the scope that was active before.
+     */
+    public static Scope openScope() {
+        Scope scope = new Scope(currentScope.get());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    /**
+     * Calls counted while open. A pooled thread created during the scope may outlive it, so a closed
+     * scope stops counting instead of collecting calls made for later work.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Scope previous;
+        private final LongAdder calls = new LongAdder();
+        private volatile boolean open = true;
+
+        private Scope(Scope previous) {
+            this.previous = previous;
+        }
+
+        public long getCount() {
+            return calls.sum();
+        }
+
+        @Override
+        public void close() {
+            if (!open) {
+                return;
+            }
+            open = false;
+            if (currentScope.get() == this) {
+                currentScope.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ru.dzhioev.petstore.api.transport;
+
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
+
+public interface HttpTransport {
+
+    LongConsumer IGNORE_SENT_BYTES = bytes -> {};
+
+    default Response execute(ApiRequest request) {
+        return execute(request, IGNORE_SENT_BYTES);
+    }
+
+    /**
+     * Sends the request and reports the size of the body as this transport encoded it, or -1 when
+     * the size is not known before sending (streamed or multipart bodies).
+     */
+    Response execute(ApiRequest request, LongConsumer sentBytes);
+
+    default CompletableFuture<Response> executeAsync(ApiRequest request) {
+        return executeAsync(request, IGNORE_SENT_BYTES);
+    }
+
+    CompletableFuture<Response> executeAsync(ApiRequest request, LongConsumer sentBytes);
+
+    String name();
+}
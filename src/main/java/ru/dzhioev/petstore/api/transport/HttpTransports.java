@@ -0,0 +1,35 @@
+package ru.dzhioev.petstore.api.transport;
+
+import io.restassured.specification.RequestSpecification;
+import lombok.experimental.UtilityClass;
+
+import java.net.http.HttpClient;
+
+@UtilityClass
+public class HttpTransports {
+
+    private static HttpClient sharedHttpClient;
+
+    public static HttpTransport create(String name, RequestSpecification requestSpec) {
+        return switch (name.toLowerCase()) {
+            case "restassured" -> new RestAssuredTransport(requestSpec);
+            case "jdk" -> jdk(requestSpec);
+            default -> throw new IllegalArgumentException("Unknown HTTP transport: " + name);
+        };
+    }
+
+    /**
+     * Creates a JDK transport for the spec. All of them share one {@link HttpClient}, so its
+     * connection pool is reused across clients.
+     */
+    public static JdkHttpTransport jdk(RequestSpecification requestSpec) {
+        return new JdkHttpTransport(sharedHttpClient(), requestSpec);
+    }
+
+    private static synchronized HttpClient sharedHttpClient() {
+        if (sharedHttpClient == null) {
+            sharedHttpClient = JdkHttpTransport.newHttpClient();
+        }
+        return sharedHttpClient;
+    }
+}
@@ -0,0 +1,225 @@
+package ru.dzhioev.petstore.api.transport;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.QueryableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.utils.JsonUtils;
+import ru.dzhioev.petstore.utils.MultipartBody;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
+
+/**
+ * Sends requests through {@link HttpClient}. The base URI, port, base path and headers come from the
+ * {@link RequestSpecification} the transport is created with; a spec that carries parameters of its
+ * own is rejected, since those would silently be dropped.
+ */
+@Slf4j
+public class JdkHttpTransport implements HttpTransport {
+
+    private static final TestConfig config = TestConfig.getInstance();
+    private static final String JSON = "application/json";
+    private static final String FORM = "application/x-www-form-urlencoded";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final List<Header> headers;
+
+    public JdkHttpTransport(RequestSpecification requestSpec) {
+        this(newHttpClient(), requestSpec);
+    }
+
+    public JdkHttpTransport(HttpClient httpClient, RequestSpecification requestSpec) {
+        QueryableRequestSpecification spec = SpecificationQuerier.query(requestSpec);
+        if (!spec.getRequestParams().isEmpty() || !spec.getQueryParams().isEmpty()
+                || !spec.getFormParams().isEmpty() || !spec.getNamedPathParams().isEmpty()) {
+            throw new IllegalArgumentException(
+                    "JDK transport does not support parameters in the request specification");
+        }
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl(spec);
+        this.headers = spec.getHeaders().asList().stream()
+                .filter(header -> !header.getName().equalsIgnoreCase("Content-Type"))
+                .toList();
+    }
+
+    public static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(config.getTimeout()))
+                .build();
+    }
+
+    @Override
+    public Response execute(ApiRequest request, LongConsumer sentBytes) {
+        HttpRequest httpRequest = toHttpRequest(request);
+        sentBytes.accept(bodyLength(httpRequest));
+        log.debug("{} request to: {}", httpRequest.method(), httpRequest.uri());
+        try {
+            return toResponse(httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Request to " + httpRequest.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during request to " + httpRequest.uri(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(ApiRequest request, LongConsumer sentBytes) {
+        HttpRequest httpRequest = toHttpRequest(request);
+        sentBytes.accept(bodyLength(httpRequest));
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(JdkHttpTransport::toResponse);
+    }
+
+    public LightResponse executeLight(ApiRequest request, LightResponseMode mode) {
+        return executeLight(request, mode, IGNORE_SENT_BYTES);
+    }
+
+    public LightResponse executeLight(ApiRequest request, LightResponseMode mode, LongConsumer sentBytes) {
+        HttpRequest httpRequest = toHttpRequest(request);
+        sentBytes.accept(bodyLength(httpRequest));
+        log.debug("{} request to: {} (streamed body)", httpRequest.method(), httpRequest.uri());
+        try {
+            return httpClient.send(httpRequest, StreamingBodySubscriber.handler(mode)).body();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Request to " + httpRequest.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during request to " + httpRequest.uri(), e);
+        }
+    }
+
+    public CompletableFuture<LightResponse> executeLightAsync(ApiRequest request, LightResponseMode mode) {
+        return httpClient.sendAsync(toHttpRequest(request), StreamingBodySubscriber.handler(mode))
+                .thenApply(HttpResponse::body);
+    }
+
+    @Override
+    public String name() {
+        return "jdk";
+    }
+
+    private HttpRequest.Builder newRequest(String path, Map<String, Object> queryParams) {
+        String query = queryParams.isEmpty() ? "" : "?" + encode(queryParams);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path + query))
+                .timeout(Duration.ofSeconds(config.getTimeout()));
+        headers.forEach(header -> builder.header(header.getName(), header.getValue()));
+        return builder;
+    }
+
+    private static String baseUrl(QueryableRequestSpecification spec) {
+        URI uri = URI.create(spec.getBaseUri());
+        if (spec.getPort() > 0 && uri.getPort() == -1) {
+            try {
+                uri = new URI(uri.getScheme(), uri.getUserInfo(), uri.getHost(), spec.getPort(),
+                        uri.getPath(), null, null);
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException("Invalid base URI " + spec.getBaseUri(), e);
+            }
+        }
+        return uri + spec.getBasePath();
+    }
+
+    private static long bodyLength(HttpRequest request) {
+        return request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+    }
+
+    private HttpRequest toHttpRequest(ApiRequest request) {
+        String contentType = request.getContentType() != null ? request.getContentType() : JSON;
+        HttpRequest.BodyPublisher publisher;
+
+        if (!request.getMultiParts().isEmpty()) {
+            MultipartBody multipart = toMultipart(request.getMultiParts());
+            contentType = multipart.contentType();
+            publisher = multipart.publisher();
+        } else if (!request.getFormParams().isEmpty()) {
+            contentType = FORM;
+            publisher = HttpRequest.BodyPublishers.ofString(encode(request.getFormParams()));
+        } else if (request.getBody() instanceof StreamedBody streamed) {
+            publisher = streamed.publisher();
+        } else if (request.getBody() instanceof byte[] bytes) {
+            publisher = HttpRequest.BodyPublishers.ofByteArray(bytes);
+        } else if (request.getBody() != null) {
+            publisher = HttpRequest.BodyPublishers.ofByteArray(JsonUtils.toBytes(request.getBody()));
+        } else {
+            publisher = HttpRequest.BodyPublishers.noBody();
+        }
+
+        HttpRequest.Builder builder = newRequest(request.resolvedPath(), request.getQueryParams())
+                .header("Content-Type", contentType)
+                .method(request.getMethod() == null ? Method.GET.name() : request.getMethod().name(), publisher);
+        if (request.getBody() instanceof StreamedBody) {
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+        return builder.build();
+    }
+
+    private static MultipartBody toMultipart(Map<String, Object> parts) {
+        MultipartBody body = new MultipartBody();
+        parts.forEach((name, value) -> {
+            if (value instanceof StreamedBody streamed) {
+                body.filePart(name, streamed.getFileName(), streamed.publisher());
+            } else if (value instanceof File file) {
+                try {
+                    body.filePart(name, file.getName(), HttpRequest.BodyPublishers.ofFile(file.toPath()));
+                } catch (FileNotFoundException e) {
+                    throw new UncheckedIOException("Cannot read " + file, e);
+                }
+            } else {
+                body.textPart(name, value == null ? null : String.valueOf(value));
+            }
+        });
+        return body;
+    }
+
+    private static String encode(Map<String, Object> params) {
+        StringJoiner joiner = new StringJoiner("&");
+        params.forEach((name, value) -> {
+            String encodedName = URLEncoder.encode(name, StandardCharsets.UTF_8);
+            joiner.add(value == null
+                    ? encodedName
+                    : encodedName + "=" + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8));
+        });
+        return joiner.toString();
+    }
+
+    static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocol + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(response.headers().firstValue("Content-Type").orElse(""))
+                .setBody(response.body())
+                .build();
+    }
+}
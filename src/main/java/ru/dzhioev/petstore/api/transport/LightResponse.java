@@ -0,0 +1,23 @@
+package ru.dzhioev.petstore.api.transport;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Response of a request whose body was streamed through instead of buffered: status, the headers
+ * asked for in {@link LightResponseMode}, the body length and, optionally, its CRC32C.
+ */
+@Value
+@Builder
+public class LightResponse {
+    int statusCode;
+    Map<String, String> headers;
+    long bodyBytes;
+    Long checksum;
+
+    public String header(String name) {
+        return headers.get(name);
+    }
+}
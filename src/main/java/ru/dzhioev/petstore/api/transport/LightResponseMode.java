@@ -0,0 +1,20 @@
+package ru.dzhioev.petstore.api.transport;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.nio.channels.WritableByteChannel;
+import java.util.Set;
+
+@Value
+@Builder(toBuilder = true)
+public class LightResponseMode {
+
+    public static final LightResponseMode DISCARD = LightResponseMode.builder().build();
+
+    @Singular
+    Set<String> headers;
+    boolean checksum;
+    WritableByteChannel sink;
+}
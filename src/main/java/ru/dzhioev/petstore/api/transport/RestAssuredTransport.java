@@ -0,0 +1,105 @@
+package ru.dzhioev.petstore.api.transport;
+
+import io.restassured.builder.MultiPartSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongConsumer;
+
+import static io.restassured.RestAssured.given;
+
+public class RestAssuredTransport implements HttpTransport {
+
+    private static final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final RequestSpecification requestSpec;
+
+    public RestAssuredTransport(RequestSpecification requestSpec) {
+        this.requestSpec = requestSpec;
+    }
+
+    @Override
+    public Response execute(ApiRequest request, LongConsumer sentBytes) {
+        RequestSpecification spec = given().spec(requestSpec);
+
+        if (request.getContentType() != null) {
+            spec.contentType(request.getContentType());
+        }
+        if (!request.getPathParams().isEmpty()) {
+            spec.pathParams(request.getPathParams());
+        }
+        if (!request.getQueryParams().isEmpty()) {
+            spec.queryParams(request.getQueryParams());
+        }
+        request.getFormParams().forEach((name, value) -> spec.formParam(name, value));
+        request.getMultiParts().forEach((name, value) -> {
+            if (value instanceof StreamedBody streamed) {
+                spec.multiPart(new MultiPartSpecBuilder(streamed.open())
+                        .controlName(name)
+                        .fileName(streamed.getFileName())
+                        .mimeType(streamed.getContentType())
+                        .build());
+            } else if (value instanceof File file) {
+                spec.multiPart(name, file);
+            } else {
+                spec.multiPart(name, value == null ? "" : String.valueOf(value));
+            }
+        });
+        if (request.getBody() instanceof StreamedBody streamed) {
+            spec.body(streamed.open());
+        } else if (request.getBody() != null) {
+            spec.body(request.getBody());
+        }
+
+        sentBytes.accept(request.getMultiParts().isEmpty() && request.getFormParams().isEmpty()
+                ? bodyLength(((FilterableRequestSpecification) spec).getBody())
+                : -1);
+
+        return spec.when().request(request.getMethod(), request.getPath());
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(ApiRequest request, LongConsumer sentBytes) {
+        return CompletableFuture.supplyAsync(() -> execute(request, sentBytes), asyncExecutor);
+    }
+
+    /**
+     * Size of the body RestAssured has already serialized for sending, counted without copying it.
+     */
+    private static long bodyLength(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (body instanceof String text) {
+            long length = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c)) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+        return -1;
+    }
+
+    @Override
+    public String name() {
+        return "restassured";
+    }
+}
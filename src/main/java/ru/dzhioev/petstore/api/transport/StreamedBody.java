@@ -0,0 +1,103 @@
+package ru.dzhioev.petstore.api.transport;
+
+import ru.dzhioev.petstore.utils.MultipartBody;
+
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Request body or multipart file part that every transport streams from its source instead of
+ * buffering it. A body backed by a one-shot source can be opened only once: a second attempt, for
+ * example a resent or redirected request, fails instead of sending an empty or partial body.
+ */
+public final class StreamedBody {
+
+    private final String fileName;
+    private final Supplier<? extends InputStream> source;
+    private final ByteBuffer buffer;
+    private final AtomicBoolean opened = new AtomicBoolean();
+
+    private StreamedBody(String fileName, Supplier<? extends InputStream> source, ByteBuffer buffer) {
+        this.fileName = fileName;
+        this.source = source;
+        this.buffer = buffer;
+    }
+
+    public static StreamedBody ofStream(Supplier<? extends InputStream> source) {
+        return new StreamedBody(null, source, null);
+    }
+
+    public static StreamedBody ofStream(String fileName, Supplier<? extends InputStream> source) {
+        return new StreamedBody(fileName, source, null);
+    }
+
+    /**
+     * Body read from a buffer, which can be sent any number of times and is never copied into a
+     * heap array by the JDK transport.
+     */
+    public static StreamedBody ofBuffer(String fileName, ByteBuffer buffer) {
+        return new StreamedBody(fileName, null, buffer.asReadOnlyBuffer());
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getContentType() {
+        String guessed = fileName == null ? null : URLConnection.guessContentTypeFromName(fileName);
+        return guessed != null ? guessed : "application/octet-stream";
+    }
+
+    public InputStream open() {
+        if (buffer != null) {
+            return new ByteBufferInputStream(buffer.duplicate());
+        }
+        if (!opened.compareAndSet(false, true)) {
+            throw new IllegalStateException("Streamed body" + (fileName == null ? "" : " " + fileName)
+                    + " was already sent and its source cannot be read again");
+        }
+        return source.get();
+    }
+
+    public HttpRequest.BodyPublisher publisher() {
+        return buffer != null
+                ? MultipartBody.ofByteBuffer(buffer)
+                : HttpRequest.BodyPublishers.ofInputStream(this::open);
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ru.dzhioev.petstore.api.transport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.zip.CRC32C;
+
+/**
+ * Counts, optionally checksums and forwards body buffers as they arrive, one at a time, so no
+ * more than a single buffer of the body is held by the client.
+ */
+class StreamingBodySubscriber implements HttpResponse.BodySubscriber<LightResponse> {
+
+    private final CompletableFuture<LightResponse> result = new CompletableFuture<>();
+    private final HttpResponse.ResponseInfo info;
+    private final LightResponseMode mode;
+    private final CRC32C crc;
+    private Flow.Subscription subscription;
+    private long bodyBytes;
+
+    StreamingBodySubscriber(HttpResponse.ResponseInfo info, LightResponseMode mode) {
+        this.info = info;
+        this.mode = mode;
+        this.crc = mode.isChecksum() ? new CRC32C() : null;
+    }
+
+    static HttpResponse.BodyHandler<LightResponse> handler(LightResponseMode mode) {
+        return info -> new StreamingBodySubscriber(info, mode);
+    }
+
+    @Override
+    public CompletionStage<LightResponse> getBody() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        try {
+            for (ByteBuffer buffer : buffers) {
+                bodyBytes += buffer.remaining();
+                if (crc != null) {
+                    crc.update(buffer.duplicate());
+                }
+                if (mode.getSink() != null) {
+                    while (buffer.hasRemaining()) {
+                        mode.getSink().write(buffer);
+                    }
+                }
+            }
+            subscription.request(1);
+        } catch (IOException e) {
+            subscription.cancel();
+            result.completeExceptionally(new UncheckedIOException("Failed to write response body to sink", e));
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : mode.getHeaders()) {
+            info.headers().firstValue(name).ifPresent(value -> headers.put(name, value));
+        }
+        result.complete(LightResponse.builder()
+                .statusCode(info.statusCode())
+                .headers(headers)
+                .bodyBytes(bodyBytes)
+                .checksum(crc != null ? crc.getValue() : null)
+                .build());
+    }
+}
@@ -0,0 +1,164 @@
+package ru.dzhioev.petstore.cleanup;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.clients.StoreClient;
+import ru.dzhioev.petstore.api.clients.UserClient;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs teardown deletes in the background so they stay off the critical path of the tests that
+ * scheduled them. A dispatcher drains scheduled tasks in batches and runs them with bounded
+ * concurrency; {@link #awaitIdle()} blocks until everything scheduled so far has finished.
+ * Failures are logged and reported, never rethrown to the scheduling test.
+ * Only the test extension drains the report with {@link #awaitCompletion()}; other owners of
+ * deferred deletes wait with {@link #awaitIdle()}, so no failure is dropped before it is reported.
+ */
+@Slf4j
+public class CleanupQueue {
+
+    private static final int MAX_REPORTED_FAILURES = 100;
+    private static CleanupQueue instance;
+
+    private final BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final int batchSize;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+    private final Object idle = new Object();
+
+    private final PetClient petClient = new PetClient();
+    private final StoreClient storeClient = new StoreClient();
+    private final UserClient userClient = new UserClient();
+
+    private record Task(String description, Supplier<Response> delete) {
+    }
+
+    private CleanupQueue(int concurrency, int batchSize) {
+        this.permits = new Semaphore(concurrency);
+        this.batchSize = batchSize;
+        Thread dispatcher = new Thread(this::dispatch, "cleanup-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    public static synchronized CleanupQueue getInstance() {
+        if (instance == null) {
+            TestConfig config = TestConfig.getInstance();
+            instance = new CleanupQueue(
+                    Integer.parseInt(config.property("cleanup.queue.concurrency", "8")),
+                    Integer.parseInt(config.property("cleanup.queue.batch.size", "32")));
+        }
+        return instance;
+    }
+
+    public void deletePet(Long petId) {
+        if (petId != null) {
+            schedule("pet " + petId, () -> petClient.deletePet(petId));
+        }
+    }
+
+    public void deleteOrder(Long orderId) {
+        if (orderId != null) {
+            schedule("order " + orderId, () -> storeClient.deleteOrder(orderId));
+        }
+    }
+
+    public void deleteUser(String username) {
+        if (username != null) {
+            schedule("user " + username, () -> userClient.deleteUser(username));
+        }
+    }
+
+    public void schedule(String description, Supplier<Response> delete) {
+        pending.incrementAndGet();
+        queue.add(new Task(description, delete));
+    }
+
+    public void awaitIdle() {
+        synchronized (idle) {
+            while (pending.get() > 0) {
+                try {
+                    idle.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for cleanup", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits like {@link #awaitIdle()} and hands over everything counted since the previous call.
+     */
+    public CleanupReport awaitCompletion() {
+        awaitIdle();
+        List<String> reported = new ArrayList<>();
+        for (String failure = failures.poll(); failure != null; failure = failures.poll()) {
+            reported.add(failure);
+        }
+        return new CleanupReport(completed.getAndSet(0), failed.getAndSet(0), reported);
+    }
+
+    private void dispatch() {
+        List<Task> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                for (Task task : batch) {
+                    permits.acquire();
+                    workers.submit(() -> run(task));
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void run(Task task) {
+        try {
+            int status = task.delete().get().getStatusCode();
+            if (status == 200 || status == 404) {
+                completed.incrementAndGet();
+            } else {
+                recordFailure(task, "status " + status);
+            }
+        } catch (RuntimeException e) {
+            recordFailure(task, e.getMessage());
+        } finally {
+            permits.release();
+            if (pending.decrementAndGet() == 0) {
+                synchronized (idle) {
+                    idle.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void recordFailure(Task task, String reason) {
+        failed.incrementAndGet();
+        log.warn("Deferred cleanup of {} failed: {}", task.description(), reason);
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(task.description() + ": " + reason);
+        }
+    }
+}
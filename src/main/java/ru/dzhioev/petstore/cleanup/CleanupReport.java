@@ -0,0 +1,16 @@
+package ru.dzhioev.petstore.cleanup;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class CleanupReport {
+    long completed;
+    long failed;
+    List<String> failures;
+
+    public boolean isClean() {
+        return failed == 0;
+    }
+}
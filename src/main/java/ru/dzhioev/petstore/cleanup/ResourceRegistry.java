@@ -0,0 +1,175 @@
+package ru.dzhioev.petstore.cleanup;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.utils.LongOpenHashSet;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks every entity created through the API clients until it is deleted. Each change is appended
+ * to a journal ({@code +P 42}, {@code -P 42}, {@code +U name}), so entities leaked by a crashed run
+ * are picked up by the next one and removed by {@link ResourceSweeper}. Every line is flushed as it
+ * is written, so a hard crash loses no registration. Seeded datasets bypass the registry, so only
+ * entities that tests failed to delete end up in the journal. Sweeping everything still tracked at
+ * shutdown is opt-in ({@code cleanup.sweep.on.shutdown}).
+ */
+@Slf4j
+public class ResourceRegistry {
+
+    private static ResourceRegistry instance;
+
+    private final Map<ResourceType, LongOpenHashSet> ids = new EnumMap<>(ResourceType.class);
+    private final Set<String> usernames = new LinkedHashSet<>();
+    private final Path journalFile;
+    private BufferedWriter journal;
+    private int recoveredCount;
+
+    private ResourceRegistry(Path journalFile) {
+        this.journalFile = journalFile;
+        ids.put(ResourceType.PET, new LongOpenHashSet());
+        ids.put(ResourceType.ORDER, new LongOpenHashSet());
+        recoverJournal();
+    }
+
+    public static synchronized ResourceRegistry getInstance() {
+        if (instance == null) {
+            TestConfig config = TestConfig.getInstance();
+            instance = new ResourceRegistry(Paths.get(config.property("cleanup.journal.file",
+                    ".petstore/created-resources.journal")));
+            if (Boolean.parseBoolean(config.property("cleanup.sweep.on.shutdown", "false"))) {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> new ResourceSweeper().sweep(),
+                        "resource-registry-shutdown"));
+            }
+        }
+        return instance;
+    }
+
+    public synchronized void register(ResourceType type, Long id) {
+        if (id != null && idSet(type).add(id)) {
+            append("+" + type.getTag() + " " + id);
+        }
+    }
+
+    public synchronized void unregister(ResourceType type, Long id) {
+        if (id != null && idSet(type).remove(id)) {
+            append("-" + type.getTag() + " " + id);
+        }
+    }
+
+    public synchronized void registerUser(String username) {
+        if (username != null && usernames.add(username)) {
+            append("+" + ResourceType.USER.getTag() + " " + username);
+        }
+    }
+
+    public synchronized void unregisterUser(String username) {
+        if (username != null && usernames.remove(username)) {
+            append("-" + ResourceType.USER.getTag() + " " + username);
+        }
+    }
+
+    public synchronized long[] ids(ResourceType type) {
+        return idSet(type).toArray();
+    }
+
+    public synchronized List<String> usernames() {
+        return List.copyOf(usernames);
+    }
+
+    public synchronized int size() {
+        return ids.values().stream().mapToInt(LongOpenHashSet::size).sum() + usernames.size();
+    }
+
+    /**
+     * Number of resources a previous run left behind, as recovered from the journal at startup.
+     */
+    public synchronized int getRecoveredCount() {
+        return recoveredCount;
+    }
+
+    private LongOpenHashSet idSet(ResourceType type) {
+        LongOpenHashSet set = ids.get(type);
+        if (set == null) {
+            throw new IllegalArgumentException(type + " resources are tracked by username");
+        }
+        return set;
+    }
+
+    private void append(String line) {
+        try {
+            if (journal == null) {
+                if (journalFile.getParent() != null) {
+                    Files.createDirectories(journalFile.getParent());
+                }
+                journal = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journal.write(line);
+            journal.newLine();
+            journal.flush();
+        } catch (IOException e) {
+            log.warn("Cannot write resource journal {}: {}", journalFile, e.getMessage());
+        }
+    }
+
+    private void recoverJournal() {
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(journalFile, StandardCharsets.UTF_8)) {
+                if (line.length() < 4) {
+                    continue;
+                }
+                boolean added = line.charAt(0) == '+';
+                ResourceType type = ResourceType.fromTag(line.charAt(1));
+                String key = line.substring(3);
+                if (type == ResourceType.USER) {
+                    if (added) {
+                        usernames.add(key);
+                    } else {
+                        usernames.remove(key);
+                    }
+                } else if (added) {
+                    idSet(type).add(Long.parseLong(key));
+                } else {
+                    idSet(type).remove(Long.parseLong(key));
+                }
+            }
+            compactJournal();
+            recoveredCount = size();
+            if (recoveredCount > 0) {
+                log.info("Recovered {} resources leaked by a previous run from {}", size(), journalFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot recover resource journal {}: {}", journalFile, e.getMessage());
+        }
+    }
+
+    private void compactJournal() throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<ResourceType, LongOpenHashSet> entry : ids.entrySet()) {
+                for (long id : entry.getValue().toArray()) {
+                    writer.write("+" + entry.getKey().getTag() + " " + id);
+                    writer.newLine();
+                }
+            }
+            for (String username : usernames) {
+                writer.write("+" + ResourceType.USER.getTag() + " " + username);
+                writer.newLine();
+            }
+        }
+    }
+}
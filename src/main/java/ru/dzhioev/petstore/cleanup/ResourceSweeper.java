@@ -0,0 +1,103 @@
+package ru.dzhioev.petstore.cleanup;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.clients.StoreClient;
+import ru.dzhioev.petstore.api.clients.UserClient;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Deletes everything left in the {@link ResourceRegistry} with bounded parallelism. Orders go first,
+ * then pets and users. A 404 counts as deleted, since the entity is gone either way.
+ */
+@Slf4j
+public class ResourceSweeper {
+
+    private final ResourceRegistry registry = ResourceRegistry.getInstance();
+    private final int parallelism = Integer.parseInt(
+            TestConfig.getInstance().property("cleanup.sweep.parallelism", "16"));
+
+    public int sweep() {
+        if (registry.size() == 0) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        StoreClient storeClient = new StoreClient();
+        PetClient petClient = new PetClient();
+        UserClient userClient = new UserClient();
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        sweepIds(ResourceType.ORDER, id -> () -> storeClient.deleteOrder(id), deleted, failed);
+        sweepIds(ResourceType.PET, id -> () -> petClient.deletePet(id), deleted, failed);
+        sweepUsers(userClient, deleted, failed);
+
+        log.info("Resource sweep deleted {} entities, {} failed, in {} ms", deleted.get(), failed.get(),
+                (System.nanoTime() - start) / 1_000_000);
+        return deleted.get();
+    }
+
+    private void sweepIds(ResourceType type, LongFunction<Supplier<Response>> delete,
+                          AtomicInteger deleted, AtomicInteger failed) {
+        long[] ids = registry.ids(type);
+        runBounded(ids.length, index -> {
+            long id = ids[index];
+            if (isDeleted(delete.apply(id))) {
+                registry.unregister(type, id);
+                deleted.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+        });
+    }
+
+    private void sweepUsers(UserClient userClient, AtomicInteger deleted, AtomicInteger failed) {
+        List<String> usernames = registry.usernames();
+        runBounded(usernames.size(), index -> {
+            String username = usernames.get(index);
+            if (isDeleted(() -> userClient.deleteUser(username))) {
+                registry.unregisterUser(username);
+                deleted.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+        });
+    }
+
+    private boolean isDeleted(Supplier<Response> delete) {
+        try {
+            int status = delete.get().getStatusCode();
+            return status == 200 || status == 404;
+        } catch (RuntimeException e) {
+            log.debug("Sweep delete failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void runBounded(int count, IntConsumer task) {
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                permits.acquireUninterruptibly();
+                executor.submit(() -> {
+                    try {
+                        task.accept(index);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+}
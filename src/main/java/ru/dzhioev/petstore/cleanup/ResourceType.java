@@ -0,0 +1,25 @@
+package ru.dzhioev.petstore.cleanup;
+
+import lombok.Getter;
+
+@Getter
+public enum ResourceType {
+    PET('P'),
+    ORDER('O'),
+    USER('U');
+
+    private final char tag;
+
+    ResourceType(char tag) {
+        this.tag = tag;
+    }
+
+    public static ResourceType fromTag(char tag) {
+        for (ResourceType type : values()) {
+            if (type.tag == tag) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown resource tag: " + tag);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 @Slf4j
@@ -19,6 +21,17 @@ public class TestConfig {
     private int timeout;
     private int maxRetryAttempts;
     private long retryDelay;
+    private int bulkBatchSize;
+    private int bulkParallelism;
+    private List<Long> uploadBenchmarkSizes;
+    private int uploadBenchmarkUploads;
+    private int uploadBenchmarkConcurrency;
+    private List<Long> scalingPopulations;
+    private int scalingSamples;
+    private int seedConcurrency;
+    private String httpTransport;
+    private int shardIndex;
+    private int shardCount;
 
     private TestConfig() {
         properties = loadProperties();
@@ -48,10 +61,36 @@ public class TestConfig {
     }
 
     private void initConfig() {
-        this.baseUrl = properties.getProperty("base.url", "https://petstore.swagger.io/v2");
-        this.apiKey = properties.getProperty("api.key", "special-key");
-        this.timeout = Integer.parseInt(properties.getProperty("test.timeout", "30"));
-        this.maxRetryAttempts = Integer.parseInt(properties.getProperty("retry.max.attempts", "3"));
-        this.retryDelay = Long.parseLong(properties.getProperty("retry.delay.ms", "1000"));
+        this.baseUrl = property("base.url", "https://petstore.swagger.io/v2");
+        this.apiKey = property("api.key", "special-key");
+        this.timeout = Integer.parseInt(property("test.timeout", "30"));
+        this.maxRetryAttempts = Integer.parseInt(property("retry.max.attempts", "3"));
+        this.retryDelay = Long.parseLong(property("retry.delay.ms", "1000"));
+        this.bulkBatchSize = Integer.parseInt(property("bulk.batch.size", "100"));
+        this.bulkParallelism = Integer.parseInt(property("bulk.parallelism", "4"));
+        this.uploadBenchmarkSizes = parseLongList(property("upload.benchmark.sizes", "65536,1048576,8388608"));
+        this.uploadBenchmarkUploads = Integer.parseInt(property("upload.benchmark.uploads", "20"));
+        this.uploadBenchmarkConcurrency = Integer.parseInt(property("upload.benchmark.concurrency", "8"));
+        this.scalingPopulations = parseLongList(property("scaling.populations", "1000,10000,100000,1000000"));
+        this.scalingSamples = Integer.parseInt(property("scaling.samples", "50"));
+        this.seedConcurrency = Integer.parseInt(property("seed.concurrency", "64"));
+        this.httpTransport = property("http.transport", "restassured");
+        this.shardIndex = Integer.parseInt(property("shard.index", "0"));
+        this.shardCount = Integer.parseInt(property("shard.count", "1"));
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalStateException("Invalid shard " + shardIndex + " of " + shardCount);
+        }
+    }
+
+    public String property(String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+
+    private static List<Long> parseLongList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .map(Long::parseLong)
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package ru.dzhioev.petstore.consistency;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Operations on one pet that have no linearization, reduced by dropping every operation that is
+ * not needed to reproduce the violation.
+ */
+@Value
+public class Anomaly {
+    long petId;
+    List<String> operations;
+
+    public String describe() {
+        return "pet " + petId + ":\n    " + String.join("\n    ", operations);
+    }
+}
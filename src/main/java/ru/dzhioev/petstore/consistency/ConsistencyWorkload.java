@@ -0,0 +1,84 @@
+package ru.dzhioev.petstore.consistency;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Concurrent clients issue a random mix of add, update, get and delete calls against a few fresh
+ * pet IDs through a {@link RecordingPetClient}; the recorded history is then checked for
+ * linearizability.
+ */
+@Slf4j
+public class ConsistencyWorkload {
+
+    private static final Pet.PetStatus[] STATUSES = Pet.PetStatus.values();
+
+    private final int clients;
+    private final int pets;
+    private final int operationsPerClient;
+
+    public ConsistencyWorkload(int clients, int pets, int operationsPerClient) {
+        this.clients = clients;
+        this.pets = pets;
+        this.operationsPerClient = operationsPerClient;
+    }
+
+    public static ConsistencyWorkload fromConfig(TestConfig config) {
+        return new ConsistencyWorkload(
+                Integer.parseInt(config.property("linearizability.clients", "16")),
+                Integer.parseInt(config.property("linearizability.pets", "4")),
+                Integer.parseInt(config.property("linearizability.operations", "50")));
+    }
+
+    public LinearizabilityReport run() {
+        long idBase = TestDataGenerator.reserveIdRange(pets);
+        RecordingPetClient client = new RecordingPetClient(new OperationHistory(clients * operationsPerClient));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < operationsPerClient; j++) {
+                        try {
+                            step(client, idBase + ThreadLocalRandom.current().nextInt(pets));
+                        } catch (RuntimeException e) {
+                            log.debug("Operation failed: {}", e.getMessage());
+                        }
+                    }
+                });
+            }
+        } finally {
+            for (int i = 0; i < pets; i++) {
+                CleanupQueue.getInstance().deletePet(idBase + i);
+            }
+        }
+
+        return new LinearizabilityChecker().check(client.getHistory());
+    }
+
+    private static void step(RecordingPetClient client, long petId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(10);
+        if (roll < 3) {
+            client.addPet(randomPet(petId));
+        } else if (roll < 5) {
+            client.updatePet(randomPet(petId));
+        } else if (roll < 9) {
+            client.getPetById(petId);
+        } else {
+            client.deletePet(petId);
+        }
+    }
+
+    private static Pet randomPet(long petId) {
+        Pet pet = TestDataGenerator.generatePetWithStatus(STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]);
+        pet.setId(petId);
+        return pet;
+    }
+}
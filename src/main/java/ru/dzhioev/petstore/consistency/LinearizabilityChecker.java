@@ -0,0 +1,226 @@
+package ru.dzhioev.petstore.consistency;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks an {@link OperationHistory} against a register model of one pet per ID (absent, or
+ * present with a value). Linearizability is compositional, so every pet is checked on its own
+ * with a Wing-Gong style search: an operation may be linearized next if it was invoked before
+ * every pending operation completed, and visited (linearized set, state) pairs are memoized.
+ * <p>
+ * Reads that failed are ignored. Writes without a response (transport error or 5xx) may or may
+ * not have taken effect, so they never complete and are allowed to stay unlinearized. Pets are
+ * assumed absent before the history starts. Operations of a failing pet are dropped one at a
+ * time, latest first, as long as the rest still fails, until no single operation can be dropped;
+ * the anomaly reported is minimal in that sense.
+ */
+@Slf4j
+public class LinearizabilityChecker {
+
+    private static final long ABSENT = Long.MIN_VALUE;
+    private static final long INVALID = Long.MAX_VALUE;
+
+    private final int searchBudget;
+    private final int maxShrinkOperations;
+
+    public LinearizabilityChecker() {
+        this(1_000_000, 200);
+    }
+
+    public LinearizabilityChecker(int searchBudget, int maxShrinkOperations) {
+        this.searchBudget = searchBudget;
+        this.maxShrinkOperations = maxShrinkOperations;
+    }
+
+    public LinearizabilityReport check(OperationHistory history) {
+        Map<Long, List<Op>> byPet = new LinkedHashMap<>();
+        for (int i = 0; i < history.size(); i++) {
+            Op op = Op.of(history, i);
+            if (op != null) {
+                byPet.computeIfAbsent(op.petId, id -> new ArrayList<>()).add(op);
+            }
+        }
+
+        LinearizabilityReport.LinearizabilityReportBuilder report = LinearizabilityReport.builder()
+                .operations(history.size())
+                .dropped(history.getDropped())
+                .pets(byPet.size());
+        byPet.forEach((petId, ops) -> {
+            ops.sort(Comparator.comparingLong(op -> op.invoked));
+            Verdict verdict = search(ops);
+            if (verdict == Verdict.UNDECIDED) {
+                report.undecided(petId);
+            } else if (verdict == Verdict.VIOLATED) {
+                report.anomaly(new Anomaly(petId, shrink(ops).stream().map(Op::toString).toList()));
+            }
+        });
+
+        LinearizabilityReport result = report.build();
+        log.info("Linearizability check: {}", result.summary());
+        return result;
+    }
+
+    private List<Op> shrink(List<Op> ops) {
+        if (ops.size() > maxShrinkOperations) {
+            return ops;
+        }
+        List<Op> minimal = new ArrayList<>(ops);
+        boolean shrunk = true;
+        while (shrunk) {
+            shrunk = false;
+            for (int i = minimal.size() - 1; i >= 0; i--) {
+                List<Op> candidate = new ArrayList<>(minimal);
+                candidate.remove(i);
+                if (search(candidate) == Verdict.VIOLATED) {
+                    minimal = candidate;
+                    shrunk = true;
+                }
+            }
+        }
+        return minimal;
+    }
+
+    private Verdict search(List<Op> ops) {
+        Search search = new Search(ops.toArray(Op[]::new));
+        try {
+            return search.run(ABSENT) ? Verdict.LINEARIZABLE : Verdict.VIOLATED;
+        } catch (BudgetExhausted e) {
+            return Verdict.UNDECIDED;
+        }
+    }
+
+    private enum Verdict {
+        LINEARIZABLE,
+        VIOLATED,
+        UNDECIDED
+    }
+
+    private static final class BudgetExhausted extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        BudgetExhausted() {
+            super(null, null, false, false);
+        }
+    }
+
+    private final class Search {
+        private final Op[] ops;
+        private final BitSet linearized = new BitSet();
+        private final Set<State> visited = new HashSet<>();
+        private final int required;
+        private int requiredLinearized;
+        private int steps;
+
+        Search(Op[] ops) {
+            this.ops = ops;
+            int count = 0;
+            for (Op op : ops) {
+                if (!op.optional) {
+                    count++;
+                }
+            }
+            this.required = count;
+        }
+
+        boolean run(long state) {
+            if (requiredLinearized == required) {
+                return true;
+            }
+            if (++steps > searchBudget) {
+                throw new BudgetExhausted();
+            }
+            if (!visited.add(new State((BitSet) linearized.clone(), state))) {
+                return false;
+            }
+
+            long horizon = Long.MAX_VALUE;
+            for (int i = linearized.nextClearBit(0); i < ops.length; i = linearized.nextClearBit(i + 1)) {
+                horizon = Math.min(horizon, ops[i].completed);
+            }
+            for (int i = linearized.nextClearBit(0); i < ops.length && ops[i].invoked <= horizon;
+                 i = linearized.nextClearBit(i + 1)) {
+                long next = ops[i].apply(state);
+                if (next == INVALID) {
+                    continue;
+                }
+                linearized.set(i);
+                requiredLinearized += ops[i].optional ? 0 : 1;
+                if (run(next)) {
+                    return true;
+                }
+                linearized.clear(i);
+                requiredLinearized -= ops[i].optional ? 0 : 1;
+            }
+            return false;
+        }
+    }
+
+    private record State(BitSet linearized, long value) {
+    }
+
+    private static final class Op {
+        final Operation operation;
+        final long petId;
+        final long invoked;
+        final long completed;
+        final int status;
+        final int value;
+        final boolean optional;
+
+        private Op(OperationHistory history, int index, boolean optional) {
+            this.operation = history.operation(index);
+            this.petId = history.petId(index);
+            this.invoked = history.invokedNanos(index);
+            this.completed = optional ? Long.MAX_VALUE : history.completedNanos(index);
+            this.status = history.status(index);
+            this.value = history.value(index);
+            this.optional = optional;
+        }
+
+        static Op of(OperationHistory history, int index) {
+            int status = history.status(index);
+            boolean unknown = status == 0 || status >= 500;
+            if (unknown) {
+                return history.operation(index) == Operation.GET ? null : new Op(history, index, true);
+            }
+            if (status == 200 || status == 404) {
+                return new Op(history, index, false);
+            }
+            return null;
+        }
+
+        long apply(long state) {
+            return switch (operation) {
+                case ADD -> status == 404 ? state : value;
+                case UPDATE -> status == 404 ? (state == ABSENT ? state : INVALID) : value;
+                case GET -> status == 404
+                        ? (state == ABSENT ? state : INVALID)
+                        : (state == value ? state : INVALID);
+                case DELETE -> {
+                    if (optional) {
+                        yield ABSENT;
+                    }
+                    yield status == 404
+                            ? (state == ABSENT ? state : INVALID)
+                            : (state == ABSENT ? INVALID : ABSENT);
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s [%.3f ms .. %s] -> %s value=%08x", operation, invoked / 1e6,
+                    completed == Long.MAX_VALUE ? "?" : String.format("%.3f ms", completed / 1e6),
+                    status == 0 ? "no response" : status, value);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.dzhioev.petstore.consistency;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class LinearizabilityReport {
+    int operations;
+    int dropped;
+    int pets;
+    @Singular
+    List<Anomaly> anomalies;
+    @Singular("undecided")
+    List<Long> undecided;
+
+    public boolean isLinearizable() {
+        return anomalies.isEmpty() && undecided.isEmpty() && dropped == 0;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "operations=%d dropped=%d pets=%d anomalies=%d undecided=%d",
+                operations, dropped, pets, anomalies.size(), undecided.size()));
+        anomalies.forEach(anomaly -> summary.append("\n  ").append(anomaly.describe()));
+        if (!undecided.isEmpty()) {
+            summary.append("\n  search budget exhausted for pets ").append(undecided);
+        }
+        return summary.toString();
+    }
+}
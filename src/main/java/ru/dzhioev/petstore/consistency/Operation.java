@@ -0,0 +1,8 @@
+package ru.dzhioev.petstore.consistency;
+
+public enum Operation {
+    ADD,
+    UPDATE,
+    GET,
+    DELETE
+}
@@ -0,0 +1,90 @@
+package ru.dzhioev.petstore.consistency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Append-only log of concurrent operations kept in preallocated primitive arrays, so recording
+ * an operation is one atomic increment and a few array stores. Entries beyond the capacity are
+ * counted as dropped. Read it only after the recording threads have been joined.
+ */
+public class OperationHistory {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final byte[] operations;
+    private final long[] petIds;
+    private final long[] invokedNanos;
+    private final long[] completedNanos;
+    private final int[] statuses;
+    private final int[] values;
+    private final AtomicInteger next = new AtomicInteger();
+    private final long origin = System.nanoTime();
+
+    public OperationHistory(int capacity) {
+        operations = new byte[capacity];
+        petIds = new long[capacity];
+        invokedNanos = new long[capacity];
+        completedNanos = new long[capacity];
+        statuses = new int[capacity];
+        values = new int[capacity];
+    }
+
+    /**
+     * @return the slot to pass to {@link #complete}, or -1 if the history is full
+     */
+    public int invoke(Operation operation, long petId, int value) {
+        int slot = next.getAndIncrement();
+        if (slot >= operations.length) {
+            return -1;
+        }
+        operations[slot] = (byte) operation.ordinal();
+        petIds[slot] = petId;
+        values[slot] = value;
+        invokedNanos[slot] = System.nanoTime();
+        completedNanos[slot] = Long.MAX_VALUE;
+        return slot;
+    }
+
+    public void complete(int slot, long completedAt, int status, int value) {
+        if (slot < 0) {
+            return;
+        }
+        completedNanos[slot] = completedAt;
+        statuses[slot] = status;
+        if (operations[slot] == Operation.GET.ordinal()) {
+            values[slot] = value;
+        }
+    }
+
+    public int size() {
+        return Math.min(next.get(), operations.length);
+    }
+
+    public int getDropped() {
+        return Math.max(0, next.get() - operations.length);
+    }
+
+    Operation operation(int index) {
+        return OPERATIONS[operations[index]];
+    }
+
+    long petId(int index) {
+        return petIds[index];
+    }
+
+    long invokedNanos(int index) {
+        return invokedNanos[index] - origin;
+    }
+
+    long completedNanos(int index) {
+        return completedNanos[index] == Long.MAX_VALUE ? Long.MAX_VALUE : completedNanos[index] - origin;
+    }
+
+    int status(int index) {
+        return statuses[index];
+    }
+
+    int value(int index) {
+        return values[index];
+    }
+}
@@ -0,0 +1,100 @@
+package ru.dzhioev.petstore.consistency;
+
+import io.restassured.response.Response;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.transport.HttpTransport;
+
+import java.util.Objects;
+
+/**
+ * {@link PetClient} that logs add, update, get and delete calls into an {@link OperationHistory}.
+ * Completion is timestamped before the response body is looked at, so parsing a read does not
+ * widen its interval. A pet is identified by the hash of its name and status.
+ */
+public class RecordingPetClient extends PetClient {
+
+    private final OperationHistory history;
+
+    public RecordingPetClient(OperationHistory history) {
+        this.history = history;
+    }
+
+    public RecordingPetClient(HttpTransport transport, OperationHistory history) {
+        super(transport);
+        this.history = history;
+    }
+
+    @Override
+    public Response addPet(Pet pet) {
+        if (pet.getId() == null) {
+            return super.addPet(pet);
+        }
+        int slot = history.invoke(Operation.ADD, pet.getId(), valueOf(pet));
+        Response response = null;
+        try {
+            response = super.addPet(pet);
+            return response;
+        } finally {
+            complete(slot, response, false);
+        }
+    }
+
+    @Override
+    public Response updatePet(Pet pet) {
+        if (pet.getId() == null) {
+            return super.updatePet(pet);
+        }
+        int slot = history.invoke(Operation.UPDATE, pet.getId(), valueOf(pet));
+        Response response = null;
+        try {
+            response = super.updatePet(pet);
+            return response;
+        } finally {
+            complete(slot, response, false);
+        }
+    }
+
+    @Override
+    public Response getPetById(Long petId) {
+        int slot = history.invoke(Operation.GET, petId, 0);
+        Response response = null;
+        try {
+            response = super.getPetById(petId);
+            return response;
+        } finally {
+            complete(slot, response, true);
+        }
+    }
+
+    @Override
+    public Response deletePet(Long petId) {
+        int slot = history.invoke(Operation.DELETE, petId, 0);
+        Response response = null;
+        try {
+            response = super.deletePet(petId);
+            return response;
+        } finally {
+            complete(slot, response, false);
+        }
+    }
+
+    public OperationHistory getHistory() {
+        return history;
+    }
+
+    private void complete(int slot, Response response, boolean readsValue) {
+        long completedAt = System.nanoTime();
+        int status = response == null ? 0 : response.getStatusCode();
+        int value = readsValue && status == 200 ? valueOf(response.path("name"), response.path("status")) : 0;
+        history.complete(slot, completedAt, status, value);
+    }
+
+    static int valueOf(Pet pet) {
+        return valueOf(pet.getName(), pet.getStatus() == null ? null : pet.getStatus().getValue());
+    }
+
+    private static int valueOf(String name, String status) {
+        return Objects.hash(name, status);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.concurrent.TimeUnit;
+
+@Value
+@Builder
+public class BulkCreateResult {
+    int batchSize;
+    int parallelism;
+    int totalBatches;
+    int failedBatches;
+    int createdCount;
+    int failedCount;
+    int retries;
+    long elapsedNanos;
+
+    public boolean isSuccessful() {
+        return failedBatches == 0;
+    }
+
+    public double getEntitiesPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return createdCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public String summary() {
+        return String.format("created=%d failed=%d batches=%d (failed %d) batchSize=%d parallelism=%d "
+                        + "retries=%d elapsed=%dms rate=%.1f/s",
+                createdCount, failedCount, totalBatches, failedBatches, batchSize, parallelism,
+                retries, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getEntitiesPerSecond());
+    }
+}
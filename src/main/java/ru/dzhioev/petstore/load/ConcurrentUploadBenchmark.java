@@ -0,0 +1,112 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.utils.SyntheticImageGenerator;
+import ru.dzhioev.petstore.utils.SyntheticImageGenerator.ImageFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ConcurrentUploadBenchmark {
+
+    private final PetClient petClient;
+    private final ImageFormat format;
+    private final int uploadsPerSize;
+    private final int concurrency;
+
+    public ConcurrentUploadBenchmark(PetClient petClient, ImageFormat format, int uploadsPerSize, int concurrency) {
+        if (uploadsPerSize <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("Uploads per size and concurrency must be positive");
+        }
+        this.petClient = petClient;
+        this.format = format;
+        this.uploadsPerSize = uploadsPerSize;
+        this.concurrency = concurrency;
+    }
+
+    public List<UploadCurvePoint> run(Long petId, List<Long> payloadSizes) {
+        List<UploadCurvePoint> curve = new ArrayList<>(payloadSizes.size());
+        for (long size : payloadSizes) {
+            curve.add(runSize(petId, size));
+        }
+
+        StringBuilder report = new StringBuilder("Upload throughput by payload size (")
+                .append(format).append(", concurrency ").append(concurrency).append("):\n")
+                .append(UploadCurvePoint.header());
+        curve.forEach(point -> report.append('\n').append(point.toRow()));
+        log.info(report.toString());
+        return curve;
+    }
+
+    private UploadCurvePoint runSize(Long petId, long size) {
+        String fileName = "synthetic." + format.getExtension();
+        WarmupResult warmup = warmUp(petId, size, fileName);
+
+        UploadMetrics metrics = new UploadMetrics();
+        PetClient client = new PetClient(petClient.getTransport(), metrics);
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < uploadsPerSize; i++) {
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        if (!upload(client, petId, size, fileName)) {
+                            failures.incrementAndGet();
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        LatencyHistogram latency = metrics.getLatency();
+        return UploadCurvePoint.builder()
+                .payloadBytes(SyntheticImageGenerator.actualSize(format, size))
+                .warmupMillis(warmup.getDurationMillis())
+                .uploads(uploadsPerSize)
+                .failures(failures.get())
+                .throughputMegabytesPerSecond(metrics.getThroughputMegabytesPerSecond())
+                .p50Millis(latency.getPercentileMillis(50))
+                .p95Millis(latency.getPercentileMillis(95))
+                .p99Millis(latency.getPercentileMillis(99))
+                .build();
+    }
+
+    private WarmupResult warmUp(Long petId, long size, String fileName) {
+        WarmupDetector warmup = WarmupDetector.fromConfig(TestConfig.getInstance());
+        PetClient client = new PetClient(petClient.getTransport(), new UploadMetrics());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.submit(() -> {
+                    while (!warmup.isSteady()) {
+                        long start = System.nanoTime();
+                        upload(client, petId, size, fileName);
+                        warmup.record(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+        return warmup.getResult();
+    }
+
+    private boolean upload(PetClient client, Long petId, long size, String fileName) {
+        try (InputStream image = SyntheticImageGenerator.generate(format, size)) {
+            return client.uploadImage(petId, image, fileName, "benchmark").getStatusCode() == 200;
+        } catch (IOException | RuntimeException e) {
+            log.debug("Upload of {} bytes failed: {}", size, e.getMessage());
+            return false;
+        }
+    }
+}
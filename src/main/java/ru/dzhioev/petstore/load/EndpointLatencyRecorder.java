@@ -0,0 +1,67 @@
+package ru.dzhioev.petstore.load;
+
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency and error counts of every call made through the API clients in this JVM,
+ * keyed by method and path template.
+ */
+public class EndpointLatencyRecorder {
+
+    private static final EndpointLatencyRecorder instance = new EndpointLatencyRecorder(
+            Boolean.parseBoolean(TestConfig.getInstance().property("latency.profile.enabled", "true")));
+
+    private final boolean enabled;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private static final class Endpoint {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final AtomicLong firstNanos = new AtomicLong(Long.MAX_VALUE);
+        final AtomicLong lastNanos = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    private EndpointLatencyRecorder(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static EndpointLatencyRecorder getInstance() {
+        return instance;
+    }
+
+    public void record(String method, String pathTemplate, int statusCode, long startNanos, long endNanos) {
+        if (!enabled) {
+            return;
+        }
+        Endpoint endpoint = endpoints.computeIfAbsent(method + " " + pathTemplate, key -> new Endpoint());
+        endpoint.latency.record(endNanos - startNanos);
+        if (statusCode == 0 || statusCode >= 500) {
+            endpoint.errors.increment();
+        }
+        endpoint.firstNanos.accumulateAndGet(startNanos, Math::min);
+        endpoint.lastNanos.accumulateAndGet(endNanos, Math::max);
+    }
+
+    public List<EndpointProfile> snapshot() {
+        List<EndpointProfile> profiles = new ArrayList<>();
+        endpoints.forEach((key, endpoint) -> profiles.add(EndpointProfile.builder()
+                .endpoint(key)
+                .requests(endpoint.latency.getCount())
+                .errors(endpoint.errors.sum())
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(
+                        Math.max(0, endpoint.lastNanos.get() - endpoint.firstNanos.get())))
+                .bucketCounts(endpoint.latency.getBucketCounts())
+                .build()));
+        profiles.sort(Comparator.comparing(EndpointProfile::getEndpoint));
+        return profiles;
+    }
+}
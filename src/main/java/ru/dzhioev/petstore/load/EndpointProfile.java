@@ -0,0 +1,72 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+@Value
+@Builder
+public class EndpointProfile {
+    String endpoint;
+    long requests;
+    long errors;
+    long durationMillis;
+    long[] bucketCounts;
+
+    public double getPercentileMillis(double percentile) {
+        return LatencyHistogram.fromBucketCounts(bucketCounts).getPercentileMillis(percentile);
+    }
+
+    public double getRequestsPerSecond() {
+        return durationMillis == 0 ? 0 : requests * 1000.0 / durationMillis;
+    }
+
+    public double getErrorRatePercent() {
+        return requests == 0 ? 0 : errors * 100.0 / requests;
+    }
+
+    public String toLine() {
+        StringJoiner buckets = new StringJoiner(",");
+        for (int i = 0; i < bucketCounts.length; i++) {
+            if (bucketCounts[i] != 0) {
+                buckets.add(i + ":" + bucketCounts[i]);
+            }
+        }
+        return String.join("\t", endpoint, String.valueOf(requests), String.valueOf(errors),
+                String.valueOf(durationMillis), format(getPercentileMillis(50)), format(getPercentileMillis(95)),
+                format(getPercentileMillis(99)), format(getRequestsPerSecond()), format(getErrorRatePercent()),
+                buckets.toString());
+    }
+
+    public static EndpointProfile parse(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 10) {
+            throw new IllegalArgumentException("Malformed endpoint profile line: " + line);
+        }
+        long[] buckets = new long[LatencyHistogram.bucketCount()];
+        if (!fields[9].isEmpty()) {
+            for (String bucket : fields[9].split(",")) {
+                int separator = bucket.indexOf(':');
+                buckets[Integer.parseInt(bucket.substring(0, separator))] = Long.parseLong(bucket.substring(separator + 1));
+            }
+        }
+        return EndpointProfile.builder()
+                .endpoint(fields[0])
+                .requests(Long.parseLong(fields[1]))
+                .errors(Long.parseLong(fields[2]))
+                .durationMillis(Long.parseLong(fields[3]))
+                .bucketCounts(buckets)
+                .build();
+    }
+
+    public static String header() {
+        return String.join("\t", "endpoint", "requests", "errors", "durationMs", "p50Ms", "p95Ms", "p99Ms",
+                "requestsPerSecond", "errorRatePercent", "buckets");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,108 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.transport.LightResponse;
+import ru.dzhioev.petstore.api.transport.LightResponseMode;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how {@code GET /pet/findByStatus} latency and response size grow with the number of
+ * stored pets. Pets are seeded incrementally up to each population, the endpoint is sampled once
+ * the client is warm, and a power law is fitted to the resulting curve. Each point is labelled with
+ * the number of pets actually created, so failed seeds do not skew the fit.
+ */
+@Slf4j
+public class FindByStatusScalingBenchmark {
+
+    private final PetClient petClient;
+    private final List<Long> populations;
+    private final int samples;
+    private final PetSeeder seeder;
+
+    public FindByStatusScalingBenchmark(PetClient petClient, List<Long> populations, int samples, int seedConcurrency) {
+        this.petClient = petClient;
+        this.populations = populations.stream().sorted().toList();
+        this.samples = samples;
+        this.seeder = new PetSeeder(petClient, seedConcurrency);
+    }
+
+    public static FindByStatusScalingBenchmark fromConfig(PetClient petClient, TestConfig config) {
+        return new FindByStatusScalingBenchmark(petClient, config.getScalingPopulations(),
+                config.getScalingSamples(), config.getSeedConcurrency());
+    }
+
+    public List<ScalingPoint> run(Pet.PetStatus status) {
+        warmUp(status);
+        List<ScalingPoint> points = new ArrayList<>();
+        try {
+            for (long population : populations) {
+                long failed = seeder.seed(population - seeder.getSeededCount());
+                if (failed > 0) {
+                    log.warn("{} pets failed to seed, measuring {} instead of {}",
+                            failed, seeder.getSeededCount(), population);
+                }
+                points.add(measure(seeder.getSeededCount(), status));
+            }
+        } finally {
+            seeder.deleteSeeded();
+        }
+
+        StringBuilder report = new StringBuilder("findByStatus(").append(status.getValue()).append(") scaling:\n")
+                .append(ScalingPoint.header());
+        points.forEach(point -> report.append('\n').append(point.toRow()));
+        report.append("\nlatency:  ").append(fitLatency(points).summary())
+                .append("\nresponse: ").append(fitResponseSize(points).summary());
+        log.info(report.toString());
+        return points;
+    }
+
+    public static ScalingFit fitLatency(List<ScalingPoint> points) {
+        return ScalingFit.fit(populationsOf(points), points.stream().mapToDouble(ScalingPoint::getP50Millis).toArray());
+    }
+
+    public static ScalingFit fitResponseSize(List<ScalingPoint> points) {
+        return ScalingFit.fit(populationsOf(points), points.stream().mapToDouble(ScalingPoint::getMeanResponseBytes).toArray());
+    }
+
+    private static double[] populationsOf(List<ScalingPoint> points) {
+        return points.stream().mapToDouble(ScalingPoint::getPopulation).toArray();
+    }
+
+    private void warmUp(Pet.PetStatus status) {
+        WarmupDetector warmup = WarmupDetector.fromConfig(TestConfig.getInstance());
+        while (!warmup.isSteady()) {
+            long start = System.nanoTime();
+            petClient.findPetsByStatus(LightResponseMode.DISCARD, status);
+            warmup.record(System.nanoTime() - start);
+        }
+        log.info("findByStatus warm-up: {}", warmup.getResult().summary());
+    }
+
+    private ScalingPoint measure(long population, Pet.PetStatus status) {
+        LatencyHistogram latency = new LatencyHistogram();
+        long totalBytes = 0;
+        int failures = 0;
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            LightResponse response = petClient.findPetsByStatus(LightResponseMode.DISCARD, status);
+            latency.record(System.nanoTime() - start);
+            totalBytes += response.getBodyBytes();
+            if (response.getStatusCode() != 200) {
+                failures++;
+            }
+        }
+        return ScalingPoint.builder()
+                .population(population)
+                .samples(samples)
+                .failures(failures)
+                .p50Millis(latency.getPercentileMillis(50))
+                .p95Millis(latency.getPercentileMillis(95))
+                .meanResponseBytes(totalBytes / (double) Math.max(1, samples))
+                .build();
+    }
+}
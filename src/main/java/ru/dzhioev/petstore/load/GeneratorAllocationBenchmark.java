@@ -0,0 +1,97 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.utils.JsonUtils;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Measures heap allocated per generated pet for the mutable {@link Pet} model and the compact
+ * load-path model, with and without JSON serialization.
+ */
+@Slf4j
+public class GeneratorAllocationBenchmark {
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static Object escaped;
+
+    private final int warmupIterations;
+    private final int measuredIterations;
+
+    public GeneratorAllocationBenchmark(int warmupIterations, int measuredIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+    public List<Result> run() {
+        Map<String, LongFunction<Object>> variants = new LinkedHashMap<>();
+        variants.put("pet", id -> generatePet(id));
+        variants.put("compact", id -> TestDataGenerator.generateCompactPet(id, Pet.PetStatus.AVAILABLE));
+        variants.put("pet+json", id -> JsonUtils.toBytes(generatePet(id)));
+        variants.put("compact+json", id -> JsonUtils.toBytes(TestDataGenerator.generateCompactPet(id, Pet.PetStatus.AVAILABLE)));
+
+        List<Result> results = new ArrayList<>();
+        variants.forEach((name, generator) -> results.add(measure(name, generator)));
+
+        StringBuilder report = new StringBuilder("Allocation per generated pet:\n").append(Result.header());
+        results.forEach(result -> report.append('\n').append(result.toRow()));
+        log.info(report.toString());
+        return results;
+    }
+
+    private static Pet generatePet(long id) {
+        Pet pet = TestDataGenerator.generatePet();
+        pet.setId(id);
+        return pet;
+    }
+
+    private Result measure(String variant, LongFunction<Object> generator) {
+        for (int i = 0; i < warmupIterations; i++) {
+            escaped = generator.apply(i);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < measuredIterations; i++) {
+            escaped = generator.apply(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return Result.builder()
+                .variant(variant)
+                .iterations(measuredIterations)
+                .allocatedBytesPerPet(allocated / Math.max(1, measuredIterations))
+                .nanosPerPet(elapsed / (double) Math.max(1, measuredIterations))
+                .build();
+    }
+
+    @Value
+    @Builder
+    public static class Result {
+        String variant;
+        int iterations;
+        long allocatedBytesPerPet;
+        double nanosPerPet;
+
+        public String toRow() {
+            return String.format("%-14s %10d %14d %12.0f", variant, iterations, allocatedBytesPerPet, nanosPerPet);
+        }
+
+        public static String header() {
+            return String.format("%-14s %10s %14s %12s", "variant", "iterations", "alloc B/pet", "ns/pet");
+        }
+    }
+}
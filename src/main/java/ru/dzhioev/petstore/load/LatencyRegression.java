@@ -0,0 +1,18 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class LatencyRegression {
+    String endpoint;
+    String metric;
+    double baselineValue;
+    double currentValue;
+    double pValue;
+
+    public String describe() {
+        return String.format("%s: %s %.2f -> %.2f (p=%.2g)", endpoint, metric, baselineValue, currentValue, pValue);
+    }
+}
@@ -0,0 +1,189 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares per-endpoint profiles of a run against a baseline. Latency is compared with a one-sided
+ * Mann-Whitney U test on the histogram buckets (ties within a bucket corrected), the error rate
+ * with a one-sided two-proportion z-test. A regression needs both a significant p-value and an
+ * increase above the minimum effect, so large samples do not flag negligible shifts.
+ */
+@Value
+@Builder
+public class LatencyRegressionCheck {
+    double alpha;
+    long minSamples;
+    double minLatencyIncreasePercent;
+    double minErrorRateIncreasePercent;
+
+    public static LatencyRegressionCheck fromConfig(TestConfig config) {
+        return LatencyRegressionCheck.builder()
+                .alpha(Double.parseDouble(config.property("latency.regression.alpha", "0.001")))
+                .minSamples(Long.parseLong(config.property("latency.regression.min.samples", "30")))
+                .minLatencyIncreasePercent(Double.parseDouble(
+                        config.property("latency.regression.min.increase.percent", "20")))
+                .minErrorRateIncreasePercent(Double.parseDouble(
+                        config.property("latency.regression.min.error.increase.percent", "1")))
+                .build();
+    }
+
+    /**
+     * Profiles of {@code current} whose endpoint has at least {@code minSamples} requests in both
+     * runs. Endpoints a partial run did not exercise enough are left out of the comparison.
+     */
+    public List<EndpointProfile> comparable(List<EndpointProfile> baseline, List<EndpointProfile> current) {
+        Map<String, EndpointProfile> baselineByEndpoint = byEndpoint(baseline);
+        return current.stream()
+                .filter(run -> {
+                    EndpointProfile base = baselineByEndpoint.get(run.getEndpoint());
+                    return base != null && base.getRequests() >= minSamples && run.getRequests() >= minSamples;
+                })
+                .toList();
+    }
+
+    public List<LatencyRegression> compare(List<EndpointProfile> baseline, List<EndpointProfile> current) {
+        Map<String, EndpointProfile> baselineByEndpoint = byEndpoint(baseline);
+        List<LatencyRegression> regressions = new ArrayList<>();
+        for (EndpointProfile run : comparable(baseline, current)) {
+            EndpointProfile base = baselineByEndpoint.get(run.getEndpoint());
+            double latencyP = mannWhitneyPValue(base.getBucketCounts(), run.getBucketCounts());
+            if (latencyP < alpha) {
+                for (double percentile : new double[]{50, 95}) {
+                    double before = base.getPercentileMillis(percentile);
+                    double after = run.getPercentileMillis(percentile);
+                    if (after > before * (1 + minLatencyIncreasePercent / 100)) {
+                        regressions.add(regression(run, "p" + (int) percentile + " ms", before, after, latencyP));
+                        break;
+                    }
+                }
+            }
+            double errorP = proportionPValue(base.getErrors(), base.getRequests(), run.getErrors(), run.getRequests());
+            if (errorP < alpha
+                    && run.getErrorRatePercent() - base.getErrorRatePercent() > minErrorRateIncreasePercent) {
+                regressions.add(regression(run, "error %", base.getErrorRatePercent(), run.getErrorRatePercent(), errorP));
+            }
+        }
+        return regressions;
+    }
+
+    private static Map<String, EndpointProfile> byEndpoint(List<EndpointProfile> profiles) {
+        return profiles.stream().collect(Collectors.toMap(EndpointProfile::getEndpoint, Function.identity()));
+    }
+
+    private static LatencyRegression regression(EndpointProfile run, String metric, double before, double after,
+                                                double pValue) {
+        return LatencyRegression.builder()
+                .endpoint(run.getEndpoint())
+                .metric(metric)
+                .baselineValue(before)
+                .currentValue(after)
+                .pValue(pValue)
+                .build();
+    }
+
+    /**
+     * One-sided p-value for "values in {@code current} tend to be larger than in {@code baseline}",
+     * with the normal approximation, tie correction and continuity correction.
+     */
+    static double mannWhitneyPValue(long[] baseline, long[] current) {
+        double n1 = 0;
+        double n2 = 0;
+        for (int i = 0; i < baseline.length; i++) {
+            n1 += baseline[i];
+            n2 += current[i];
+        }
+        double n = n1 + n2;
+        if (n1 == 0 || n2 == 0) {
+            return 1;
+        }
+
+        double rankSum = 0;
+        double ranked = 0;
+        double tieTerm = 0;
+        for (int i = 0; i < baseline.length; i++) {
+            double ties = baseline[i] + current[i];
+            if (ties == 0) {
+                continue;
+            }
+            double averageRank = ranked + (ties + 1) / 2;
+            rankSum += current[i] * averageRank;
+            ranked += ties;
+            tieTerm += ties * ties * ties - ties;
+        }
+
+        double u = rankSum - n2 * (n2 + 1) / 2;
+        double mean = n1 * n2 / 2;
+        double variance = n1 * n2 / 12 * ((n + 1) - tieTerm / (n * (n - 1)));
+        if (variance <= 0) {
+            return 1;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return normalUpperTail(z);
+    }
+
+    /**
+     * One-sided p-value for "the error rate of the second sample is higher".
+     */
+    static double proportionPValue(long baselineErrors, long baselineRequests, long currentErrors, long currentRequests) {
+        if (baselineRequests == 0 || currentRequests == 0) {
+            return 1;
+        }
+        double pooled = (double) (baselineErrors + currentErrors) / (baselineRequests + currentRequests);
+        double standardError = Math.sqrt(pooled * (1 - pooled) * (1.0 / baselineRequests + 1.0 / currentRequests));
+        if (standardError == 0) {
+            return 1;
+        }
+        double difference = (double) currentErrors / currentRequests - (double) baselineErrors / baselineRequests;
+        return normalUpperTail(difference / standardError);
+    }
+
+    static double normalUpperTail(double z) {
+        return 0.5 * erfc(z / Math.sqrt(2));
+    }
+
+    // Numerical Recipes erfc approximation, fractional error below 1.2e-7
+    private static double erfc(double x) {
+        double t = 1 / (1 + 0.5 * Math.abs(x));
+        double value = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? value : 2 - value;
+    }
+
+    public static void save(Path file, List<EndpointProfile> profiles) {
+        List<String> lines = new ArrayList<>();
+        lines.add(EndpointProfile.header());
+        profiles.forEach(profile -> lines.add(profile.toLine()));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save latency profile to " + file, e);
+        }
+    }
+
+    public static List<EndpointProfile> load(Path file) {
+        try (var lines = Files.lines(file)) {
+            return lines.skip(1)
+                    .filter(line -> !line.isBlank())
+                    .map(EndpointProfile::parse)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read latency profile " + file, e);
+        }
+    }
+}
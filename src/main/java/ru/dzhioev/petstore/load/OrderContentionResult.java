@@ -0,0 +1,44 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Value
+@Builder
+public class OrderContentionResult {
+    long petId;
+    int requests;
+    int placed;
+    int failed;
+    long elapsedNanos;
+    double p50Millis;
+    double p99Millis;
+    double maxMillis;
+    int inventoryBefore;
+    int inventoryAfter;
+    @Singular
+    List<String> inconsistencies;
+
+    public boolean isConsistent() {
+        return inconsistencies.isEmpty();
+    }
+
+    public double getOrdersPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return placed * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public String summary() {
+        return String.format("pet=%d requests=%d placed=%d failed=%d elapsed=%dms rate=%.1f/s "
+                        + "p50=%.2fms p99=%.2fms max=%.2fms inventory=%d->%d inconsistencies=%d%s",
+                petId, requests, placed, failed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getOrdersPerSecond(),
+                p50Millis, p99Millis, maxMillis, inventoryBefore, inventoryAfter, inconsistencies.size(),
+                inconsistencies.isEmpty() ? "" : "\n  " + String.join("\n  ", inconsistencies));
+    }
+}
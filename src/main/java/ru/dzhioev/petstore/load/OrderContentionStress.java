@@ -0,0 +1,175 @@
+package ru.dzhioev.petstore.load;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.clients.StoreClient;
+import ru.dzhioev.petstore.api.models.Order;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.utils.LongOpenHashSet;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Places many orders for the same pet at once: every request runs on its own virtual thread and
+ * all of them are released by a single start gate. Afterwards each accepted order is read back and
+ * checked against what was sent, and the pet and inventory are checked for side effects.
+ * <p>
+ * The inventory counts pets by status, so placing orders must leave it unchanged. On a shared store
+ * other clients move those counts at any time; there only the contended pet's own bucket is checked,
+ * and the before/after equality is asserted when {@code exactInventory} says the store is isolated.
+ */
+@Slf4j
+public class OrderContentionStress {
+
+    private final StoreClient storeClient;
+    private final PetClient petClient;
+    private final int requests;
+    private final boolean exactInventory;
+
+    public OrderContentionStress(StoreClient storeClient, PetClient petClient, int requests, boolean exactInventory) {
+        this.storeClient = storeClient;
+        this.petClient = petClient;
+        this.requests = requests;
+        this.exactInventory = exactInventory;
+    }
+
+    public static OrderContentionStress fromConfig(StoreClient storeClient, PetClient petClient, TestConfig config) {
+        return new OrderContentionStress(storeClient, petClient,
+                Integer.parseInt(config.property("contention.orders", "200")),
+                Boolean.parseBoolean(config.property("contention.inventory.exact", "false")));
+    }
+
+    public OrderContentionResult run(Pet pet) {
+        String status = pet.getStatus().getValue();
+        int inventoryBefore = storeClient.getInventoryMap().getOrDefault(status, 0);
+
+        List<Order> orders = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            orders.add(TestDataGenerator.generatePlacedOrder(pet.getId()));
+        }
+
+        LatencyHistogram latency = new LatencyHistogram();
+        CountDownLatch ready = new CountDownLatch(requests);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Future<Response>> responses = new ArrayList<>(requests);
+        long start;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Order order : orders) {
+                responses.add(executor.submit(() -> {
+                    ready.countDown();
+                    gate.await();
+                    long sent = System.nanoTime();
+                    try {
+                        return storeClient.placeOrder(order);
+                    } finally {
+                        latency.record(System.nanoTime() - sent);
+                    }
+                }));
+            }
+            ready.await();
+            start = System.nanoTime();
+            gate.countDown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while placing orders", e);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        OrderContentionResult.OrderContentionResultBuilder result = OrderContentionResult.builder()
+                .petId(pet.getId())
+                .requests(requests)
+                .elapsedNanos(elapsed)
+                .p50Millis(latency.getPercentileMillis(50))
+                .p99Millis(latency.getPercentileMillis(99))
+                .maxMillis(latency.getMaxNanos() / 1_000_000.0);
+
+        List<Long> placedIds = new ArrayList<>();
+        LongOpenHashSet seenIds = new LongOpenHashSet(requests);
+        try {
+            for (int i = 0; i < requests; i++) {
+                Order sent = orders.get(i);
+                Response response = responseOf(responses.get(i));
+                if (response == null || response.getStatusCode() != 200) {
+                    continue;
+                }
+                placedIds.add(sent.getId());
+                Order accepted = response.as(Order.class);
+                if (accepted.getId() != null && !seenIds.add(accepted.getId())) {
+                    result.inconsistency("order " + accepted.getId() + " was returned for more than one request");
+                }
+                if (!sent.getId().equals(accepted.getId()) || !sent.getPetId().equals(accepted.getPetId())
+                        || !sent.getQuantity().equals(accepted.getQuantity())) {
+                    result.inconsistency("order " + sent.getId() + " was accepted as " + accepted);
+                }
+                checkStored(sent, result);
+            }
+        } finally {
+            // Deleted only once every order has been read back, so the cleanup cannot race a read.
+            placedIds.forEach(CleanupQueue.getInstance()::deleteOrder);
+        }
+        int placed = placedIds.size();
+
+        Response storedPet = petClient.getPetById(pet.getId());
+        if (storedPet.getStatusCode() != 200) {
+            result.inconsistency("pet " + pet.getId() + " is no longer readable: HTTP " + storedPet.getStatusCode());
+        } else if (storedPet.as(Pet.class).getStatus() != pet.getStatus()) {
+            result.inconsistency("pet " + pet.getId() + " changed status to " + storedPet.as(Pet.class).getStatus());
+        }
+
+        Map<String, Integer> inventory = storeClient.getInventoryMap();
+        inventory.forEach((key, count) -> {
+            if (count < 0) {
+                result.inconsistency("inventory count for " + key + " is negative: " + count);
+            }
+        });
+        int inventoryAfter = inventory.getOrDefault(status, 0);
+        if (inventoryAfter < 1) {
+            result.inconsistency("inventory for " + status + " no longer counts pet " + pet.getId()
+                    + ": " + inventoryAfter);
+        }
+        if (exactInventory && inventoryAfter != inventoryBefore) {
+            result.inconsistency("inventory for " + status + " changed from " + inventoryBefore + " to "
+                    + inventoryAfter + " while only orders were placed");
+        }
+
+        OrderContentionResult built = result
+                .placed(placed)
+                .failed(requests - placed)
+                .inventoryBefore(inventoryBefore)
+                .inventoryAfter(inventoryAfter)
+                .build();
+        log.info("Order contention: {}", built.summary());
+        return built;
+    }
+
+    private void checkStored(Order sent, OrderContentionResult.OrderContentionResultBuilder result) {
+        Response stored = storeClient.getOrderById(sent.getId());
+        if (stored.getStatusCode() != 200) {
+            result.inconsistency("accepted order " + sent.getId() + " cannot be read back: HTTP " + stored.getStatusCode());
+            return;
+        }
+        Order order = stored.as(Order.class);
+        if (!sent.getPetId().equals(order.getPetId()) || !sent.getQuantity().equals(order.getQuantity())) {
+            result.inconsistency("stored order " + sent.getId() + " differs from the request: " + order);
+        }
+    }
+
+    private static Response responseOf(Future<Response> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.utils.ConcurrentLongByteOpenHashMap;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Creates pets through a {@link SeedingPipeline}, spreading them evenly across {@link Pet.PetStatus}
+ * values, and tracks the state of every pet it created so the population can be removed afterwards.
+ */
+@Slf4j
+public class PetSeeder {
+
+    private final PetClient petClient;
+    private final SeedingConfig config;
+    private static final byte SEEDED = 1;
+    private static final byte DELETED = 2;
+    private static final byte DELETE_FAILED = 3;
+
+    private final ConcurrentLongByteOpenHashMap seeded = new ConcurrentLongByteOpenHashMap();
+
+    public PetSeeder(PetClient petClient, int concurrency) {
+        this(petClient, SeedingConfig.fromConfig(TestConfig.getInstance()).toBuilder()
+                .concurrency(concurrency)
+                .checkpointFile(null)
+                .build());
+    }
+
+    public PetSeeder(PetClient petClient, SeedingConfig config) {
+        this.petClient = petClient;
+        this.config = config;
+    }
+
+    public long seed(long count) {
+        SeedingResult result = new SeedingPipeline(petClient, config).seed(count, id -> seeded.put(id, SEEDED, (byte) 0));
+        return result.getFailedCount();
+    }
+
+    public int getSeededCount() {
+        return seeded.count(SEEDED);
+    }
+
+    public int getDeleteFailedCount() {
+        return seeded.count(DELETE_FAILED);
+    }
+
+    public void deleteSeeded() {
+        long[] ids = seeded.keysWithValue(SEEDED);
+        Semaphore permits = new Semaphore(config.getConcurrency());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long id : ids) {
+                permits.acquireUninterruptibly();
+                executor.submit(() -> {
+                    try {
+                        int status = petClient.deletePet(id).getStatusCode();
+                        seeded.put(id, status == 200 || status == 404 ? DELETED : DELETE_FAILED, SEEDED);
+                    } catch (RuntimeException e) {
+                        seeded.put(id, DELETE_FAILED, SEEDED);
+                        log.debug("Failed to delete seeded pet {}: {}", id, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Value;
+
+/**
+ * Least-squares fit of {@code y = c * n^k} on a log-log scale.
+ */
+@Value
+public class ScalingFit {
+    double exponent;
+    double coefficient;
+    double rSquared;
+
+    public static ScalingFit fit(double[] n, double[] y) {
+        int points = 0;
+        double sumX = 0;
+        double sumY = 0;
+        double sumXX = 0;
+        double sumXY = 0;
+        for (int i = 0; i < n.length; i++) {
+            if (n[i] <= 0 || y[i] <= 0) {
+                continue;
+            }
+            double x = Math.log(n[i]);
+            double v = Math.log(y[i]);
+            points++;
+            sumX += x;
+            sumY += v;
+            sumXX += x * x;
+            sumXY += x * v;
+        }
+        if (points < 2 || points * sumXX - sumX * sumX == 0) {
+            return new ScalingFit(Double.NaN, Double.NaN, Double.NaN);
+        }
+        double exponent = (points * sumXY - sumX * sumY) / (points * sumXX - sumX * sumX);
+        double intercept = (sumY - exponent * sumX) / points;
+
+        double meanY = sumY / points;
+        double total = 0;
+        double residual = 0;
+        for (int i = 0; i < n.length; i++) {
+            if (n[i] <= 0 || y[i] <= 0) {
+                continue;
+            }
+            double v = Math.log(y[i]);
+            double predicted = intercept + exponent * Math.log(n[i]);
+            total += (v - meanY) * (v - meanY);
+            residual += (v - predicted) * (v - predicted);
+        }
+        return new ScalingFit(exponent, Math.exp(intercept), total == 0 ? 1 : 1 - residual / total);
+    }
+
+    public String complexity() {
+        if (Double.isNaN(exponent)) {
+            return "unknown";
+        }
+        if (exponent < 0.2) {
+            return "O(1)";
+        }
+        if (exponent < 0.8) {
+            return String.format("sublinear, O(n^%.2f)", exponent);
+        }
+        if (exponent < 1.2) {
+            return "O(n)";
+        }
+        return String.format("superlinear, O(n^%.2f)", exponent);
+    }
+
+    public String summary() {
+        return String.format("%s (exponent %.2f, R^2 %.2f)", complexity(), exponent, rSquared);
+    }
+}
@@ -0,0 +1,25 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ScalingPoint {
+    long population;
+    int samples;
+    int failures;
+    double p50Millis;
+    double p95Millis;
+    double meanResponseBytes;
+
+    public String toRow() {
+        return String.format("%12d %8d %8d %10.2f %10.2f %14.0f",
+                population, samples, failures, p50Millis, p95Millis, meanResponseBytes);
+    }
+
+    public static String header() {
+        return String.format("%12s %8s %8s %10s %10s %14s",
+                "population", "samples", "failed", "p50 ms", "p95 ms", "bytes");
+    }
+}
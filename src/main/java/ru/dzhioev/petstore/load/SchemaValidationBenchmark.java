@@ -0,0 +1,101 @@
+package ru.dzhioev.petstore.load;
+
+import io.restassured.module.jsv.JsonSchemaValidator;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.schemas.ResponseSchema;
+import ru.dzhioev.petstore.api.schemas.SchemaValidator;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Measures the per-response cost of schema validation by body size, with the precompiled schemas
+ * of {@link SchemaValidator} against loading the schema for every response.
+ */
+@Slf4j
+public class SchemaValidationBenchmark {
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int warmupIterations;
+    private final int measuredIterations;
+
+    public SchemaValidationBenchmark(int warmupIterations, int measuredIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+    public List<Result> run(ResponseSchema schema, List<String> bodies) {
+        List<Result> results = new ArrayList<>();
+        for (String body : bodies) {
+            results.add(run(schema, body));
+        }
+
+        StringBuilder report = new StringBuilder("Schema validation overhead for ").append(schema).append(":\n")
+                .append(Result.header());
+        results.forEach(result -> report.append('\n').append(result.toRow()));
+        log.info(report.toString());
+        return results;
+    }
+
+    public Result run(ResponseSchema schema, String body) {
+        Predicate<String> cached = value -> SchemaValidator.isValid(schema, value);
+        Predicate<String> uncached = value -> JsonSchemaValidator
+                .matchesJsonSchemaInClasspath(schema.getResource().substring(1))
+                .matches(value);
+
+        long[] cachedCost = measure(cached, body);
+        long[] uncachedCost = measure(uncached, body);
+
+        return Result.builder()
+                .bodyBytes(body.getBytes(StandardCharsets.UTF_8).length)
+                .iterations(measuredIterations)
+                .valid(cached.test(body))
+                .cachedMicros(cachedCost[0] / 1000.0 / measuredIterations)
+                .cachedAllocatedBytes(cachedCost[1] / measuredIterations)
+                .uncachedMicros(uncachedCost[0] / 1000.0 / measuredIterations)
+                .build();
+    }
+
+    private long[] measure(Predicate<String> validation, String body) {
+        for (int i = 0; i < warmupIterations; i++) {
+            validation.test(body);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < measuredIterations; i++) {
+            validation.test(body);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new long[]{elapsed, threads.getThreadAllocatedBytes(threadId) - allocatedBefore};
+    }
+
+    @Value
+    @Builder
+    public static class Result {
+        int bodyBytes;
+        int iterations;
+        boolean valid;
+        double cachedMicros;
+        long cachedAllocatedBytes;
+        double uncachedMicros;
+
+        public String toRow() {
+            return String.format("%10d %10d %6s %12.1f %14d %14.1f",
+                    bodyBytes, iterations, valid, cachedMicros, cachedAllocatedBytes, uncachedMicros);
+        }
+
+        public static String header() {
+            return String.format("%10s %10s %6s %12s %14s %14s",
+                    "bytes", "iterations", "valid", "cached us", "cached alloc B", "uncached us");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Progress of a seeding run: pets {@code idBase .. idBase + completed - 1} are known to exist.
+ * The file is replaced atomically, so an interrupted run always leaves a readable checkpoint.
+ */
+@Value
+public class SeedCheckpoint {
+    long idBase;
+    long total;
+    long completed;
+
+    public SeedCheckpoint withCompleted(long completed) {
+        return new SeedCheckpoint(idBase, total, completed);
+    }
+
+    public static SeedCheckpoint load(Path file) {
+        if (file == null || !Files.exists(file)) {
+            return null;
+        }
+        try {
+            String[] fields = Files.readString(file).trim().split("\t");
+            return new SeedCheckpoint(Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read seed checkpoint " + file, e);
+        }
+    }
+
+    public void save(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, List.of(idBase + "\t" + total + "\t" + completed));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write seed checkpoint " + file, e);
+        }
+    }
+}
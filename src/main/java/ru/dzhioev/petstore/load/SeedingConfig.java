@@ -0,0 +1,28 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.nio.file.Path;
+
+@Value
+@Builder(toBuilder = true)
+public class SeedingConfig {
+    int concurrency;
+    int queueCapacity;
+    int serializerThreads;
+    int checkpointInterval;
+    Path checkpointFile;
+
+    public static SeedingConfig fromConfig(TestConfig config) {
+        String checkpoint = config.property("seed.checkpoint.file", "");
+        return SeedingConfig.builder()
+                .concurrency(config.getSeedConcurrency())
+                .queueCapacity(Integer.parseInt(config.property("seed.queue.capacity", "1024")))
+                .serializerThreads(Integer.parseInt(config.property("seed.serializer.threads", "2")))
+                .checkpointInterval(Integer.parseInt(config.property("seed.checkpoint.interval", "1000")))
+                .checkpointFile(checkpoint.isBlank() ? null : Path.of(checkpoint))
+                .build();
+    }
+}
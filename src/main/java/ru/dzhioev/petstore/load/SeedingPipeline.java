@@ -0,0 +1,232 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.models.compact.CompactPet;
+import ru.dzhioev.petstore.utils.JsonUtils;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * Seeds pets through three stages connected by bounded queues: a generator builds pets with
+ * {@link TestDataGenerator}, serializer threads turn them into JSON, and the calling thread sends
+ * them with at most {@code concurrency} requests in flight. A full queue blocks the stage in front
+ * of it, so a slow server throttles generation instead of filling the heap.
+ * <p>
+ * Pet IDs are {@code idBase + index}, which makes a resent pet an overwrite. With a checkpoint file
+ * configured, the longest prefix of successfully created pets is saved periodically and a later run
+ * with the same count continues after it. If the generator or a serializer fails, sending stops,
+ * the requests in flight are awaited, the checkpoint is saved and the failure is rethrown.
+ */
+@Slf4j
+public class SeedingPipeline {
+
+    private static final Pet.PetStatus[] STATUSES = Pet.PetStatus.values();
+    private static final CompactPet END_OF_PETS = new CompactPet(-1, null, null, null, null, null);
+    private static final Serialized END_OF_JSON = new Serialized(-1, null);
+    private static final long STAGE_POLL_MILLIS = 100;
+
+    private final PetClient petClient;
+    private final SeedingConfig config;
+
+    public SeedingPipeline(PetClient petClient, SeedingConfig config) {
+        this.petClient = petClient;
+        this.config = config;
+    }
+
+    public SeedingResult seed(long count) {
+        return seed(count, id -> {});
+    }
+
+    public SeedingResult seed(long count, LongConsumer onCreated) {
+        SeedCheckpoint checkpoint = SeedCheckpoint.load(config.getCheckpointFile());
+        if (checkpoint == null || checkpoint.getTotal() != count) {
+            checkpoint = new SeedCheckpoint(TestDataGenerator.reserveIdRange(count), count, 0);
+        } else {
+            log.info("Resuming seeding of {} pets from {}", count, checkpoint.getCompleted());
+        }
+
+        long from = checkpoint.getCompleted();
+        long idBase = checkpoint.getIdBase();
+        Progress progress = new Progress(from);
+        BlockingQueue<CompactPet> pets = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        BlockingQueue<Serialized> json = new ArrayBlockingQueue<>(config.getQueueCapacity());
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> stages = new ArrayList<>();
+        stages.add(Thread.ofPlatform().daemon().name("seed-generator")
+                .start(guarded(failure, () -> generate(pets, idBase, from, count))));
+        AtomicInteger runningSerializers = new AtomicInteger(config.getSerializerThreads());
+        for (int i = 0; i < config.getSerializerThreads(); i++) {
+            stages.add(Thread.ofPlatform().daemon().name("seed-serializer-" + i)
+                    .start(guarded(failure, () -> serialize(pets, json, idBase, runningSerializers))));
+        }
+
+        Semaphore inFlight = new Semaphore(config.getConcurrency());
+        long lastSaved = from;
+        long start = System.nanoTime();
+        try {
+            for (Serialized item = next(json, failure); item != END_OF_JSON; item = next(json, failure)) {
+                inFlight.acquire();
+                send(item, idBase, progress, inFlight, onCreated);
+                long watermark = progress.watermark();
+                if (watermark - lastSaved >= config.getCheckpointInterval()) {
+                    save(checkpoint.withCompleted(watermark));
+                    lastSaved = watermark;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Seeding interrupted, waiting for requests in flight");
+        } finally {
+            stages.forEach(Thread::interrupt);
+            inFlight.acquireUninterruptibly(config.getConcurrency());
+            save(checkpoint.withCompleted(progress.watermark()));
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Seeding stopped at " + progress.watermark() + " of " + count
+                    + " pets after a stage failed", failure.get());
+        }
+
+        SeedingResult result = SeedingResult.builder()
+                .requested(count)
+                .resumedFrom(from)
+                .createdCount(progress.created)
+                .failedCount(progress.failed)
+                .checkpoint(progress.watermark())
+                .concurrency(config.getConcurrency())
+                .elapsedNanos(System.nanoTime() - start)
+                .build();
+        log.info("Seeding finished: {}", result.summary());
+        return result;
+    }
+
+    /**
+     * Takes the next serialized pet, or {@link #END_OF_JSON} as soon as a stage has failed: a dead
+     * stage never posts its end marker, so waiting on the queue alone could block forever.
+     */
+    private static Serialized next(BlockingQueue<Serialized> json, AtomicReference<Throwable> failure)
+            throws InterruptedException {
+        while (failure.get() == null) {
+            Serialized item = json.poll(STAGE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (item != null) {
+                return item;
+            }
+        }
+        return END_OF_JSON;
+    }
+
+    private static Runnable guarded(AtomicReference<Throwable> failure, Runnable stage) {
+        return () -> {
+            try {
+                stage.run();
+            } catch (RuntimeException | Error e) {
+                log.error("Seeding stage {} failed", Thread.currentThread().getName(), e);
+                failure.compareAndSet(null, e);
+            }
+        };
+    }
+
+    private void generate(BlockingQueue<CompactPet> pets, long idBase, long from, long count) {
+        try {
+            for (long index = from; index < count; index++) {
+                pets.put(TestDataGenerator.generateCompactPet(idBase + index, STATUSES[(int) (index % STATUSES.length)]));
+            }
+            for (int i = 0; i < config.getSerializerThreads(); i++) {
+                pets.put(END_OF_PETS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void serialize(BlockingQueue<CompactPet> pets, BlockingQueue<Serialized> json, long idBase,
+                           AtomicInteger runningSerializers) {
+        try {
+            for (CompactPet pet = pets.take(); pet != END_OF_PETS; pet = pets.take()) {
+                json.put(new Serialized(pet.id() - idBase, JsonUtils.toBytes(pet)));
+            }
+            if (runningSerializers.decrementAndGet() == 0) {
+                json.put(END_OF_JSON);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(Serialized item, long idBase, Progress progress, Semaphore inFlight, LongConsumer onCreated) {
+        long id = idBase + item.index();
+        try {
+            petClient.addPetAsync(item.json()).whenComplete((response, error) -> {
+                try {
+                    boolean created = error == null && response.getStatusCode() == 200;
+                    progress.complete(item.index(), created);
+                    if (created) {
+                        onCreated.accept(id);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debug("Failed to send pet {}: {}", id, e.getMessage());
+            progress.complete(item.index(), false);
+            inFlight.release();
+        }
+    }
+
+    private void save(SeedCheckpoint checkpoint) {
+        if (config.getCheckpointFile() != null) {
+            checkpoint.save(config.getCheckpointFile());
+        }
+    }
+
+    private record Serialized(long index, byte[] json) {
+    }
+
+    /**
+     * Tracks completions that arrive out of order and exposes the first index not yet known to
+     * be created. A failed pet holds the watermark back so that a resumed run sends it again.
+     */
+    private static final class Progress {
+        private final long from;
+        private final BitSet completed = new BitSet();
+        private long watermark;
+        private long firstFailure = Long.MAX_VALUE;
+        private long created;
+        private long failed;
+
+        Progress(long from) {
+            this.from = from;
+            this.watermark = from;
+        }
+
+        synchronized void complete(long index, boolean success) {
+            if (!success) {
+                failed++;
+                firstFailure = Math.min(firstFailure, index);
+                return;
+            }
+            created++;
+            completed.set((int) (index - from));
+            while (watermark < firstFailure && completed.get((int) (watermark - from))) {
+                watermark++;
+            }
+        }
+
+        synchronized long watermark() {
+            return watermark;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.concurrent.TimeUnit;
+
+@Value
+@Builder
+public class SeedingResult {
+    long requested;
+    long resumedFrom;
+    long createdCount;
+    long failedCount;
+    long checkpoint;
+    int concurrency;
+    long elapsedNanos;
+
+    public boolean isComplete() {
+        return checkpoint == requested;
+    }
+
+    public double getEntitiesPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return createdCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public String summary() {
+        return String.format("requested=%d resumedFrom=%d created=%d failed=%d checkpoint=%d concurrency=%d "
+                        + "elapsed=%dms rate=%.1f/s",
+                requested, resumedFrom, createdCount, failedCount, checkpoint, concurrency,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getEntitiesPerSecond());
+    }
+}
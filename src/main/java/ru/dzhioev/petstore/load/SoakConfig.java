@@ -0,0 +1,47 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.time.Duration;
+
+@Value
+@Builder
+public class SoakConfig {
+    Duration duration;
+    Duration interval;
+    Duration baseline;
+    int concurrency;
+    double requestsPerSecond;
+    String transport;
+    double maxP99DriftPercent;
+    double maxErrorRateIncreasePercent;
+    double maxHeapGrowthPercent;
+
+    public static SoakConfig fromConfig(TestConfig config) {
+        SoakConfig soak = SoakConfig.builder()
+                .duration(Duration.parse(config.property("soak.duration", "PT4H")))
+                .interval(Duration.parse(config.property("soak.interval", "PT1M")))
+                .baseline(Duration.parse(config.property("soak.baseline", "PT1H")))
+                .concurrency(Integer.parseInt(config.property("soak.concurrency", "16")))
+                .requestsPerSecond(Double.parseDouble(config.property("soak.rate", "20")))
+                .transport(config.property("soak.transport", "jdk"))
+                .maxP99DriftPercent(Double.parseDouble(config.property("soak.max.p99.drift.percent", "50")))
+                .maxErrorRateIncreasePercent(Double.parseDouble(config.property("soak.max.error.rate.increase.percent", "1")))
+                .maxHeapGrowthPercent(Double.parseDouble(config.property("soak.max.heap.growth.percent", "25")))
+                .build();
+        if (soak.getIntervalsPerWindow() < 1 || soak.getDuration().compareTo(soak.getBaseline().multipliedBy(2)) < 0) {
+            throw new IllegalStateException("Soak baseline must span at least one interval and half of the duration at most");
+        }
+        return soak;
+    }
+
+    public int getTotalIntervals() {
+        return (int) (duration.toNanos() / interval.toNanos());
+    }
+
+    public int getIntervalsPerWindow() {
+        return (int) (baseline.toNanos() / interval.toNanos());
+    }
+}
@@ -0,0 +1,55 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class SoakReport {
+    List<Finding> findings;
+    WarmupResult warmup;
+    List<SoakSnapshot> snapshots;
+    long totalRequests;
+    long totalErrors;
+    int comparedWindows;
+    double baselineP99Millis;
+    double worstWindowP99Millis;
+    double baselineErrorRatePercent;
+    double worstWindowErrorRatePercent;
+    long baselineHeapBytes;
+    long finalHeapBytes;
+
+    public enum Finding {
+        LATENCY_DRIFT,
+        ERROR_TREND,
+        MEMORY_GROWTH
+    }
+
+    public boolean isStable() {
+        return findings.isEmpty();
+    }
+
+    public double getP99DriftPercent() {
+        return percentChange(baselineP99Millis, worstWindowP99Millis);
+    }
+
+    public double getHeapGrowthPercent() {
+        return percentChange(baselineHeapBytes, finalHeapBytes);
+    }
+
+    public String summary() {
+        return String.format("verdict=%s warmup=%dms%s requests=%d errors=%d windows=%d "
+                        + "p99 baseline=%.2fms worst=%.2fms (%+.1f%%) error rate baseline=%.2f%% worst=%.2f%% heap baseline=%dMB final=%dMB (%+.1f%%)",
+                isStable() ? "STABLE" : findings, warmup.getDurationMillis(), warmup.isConverged() ? "" : " (timed out)",
+                totalRequests, totalErrors, comparedWindows,
+                baselineP99Millis, worstWindowP99Millis, getP99DriftPercent(),
+                baselineErrorRatePercent, worstWindowErrorRatePercent,
+                baselineHeapBytes / (1024 * 1024), finalHeapBytes / (1024 * 1024), getHeapGrowthPercent());
+    }
+
+    private static double percentChange(double from, double to) {
+        return from == 0 ? 0 : (to - from) * 100 / from;
+    }
+}
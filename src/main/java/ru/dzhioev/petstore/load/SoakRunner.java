@@ -0,0 +1,348 @@
+package ru.dzhioev.petstore.load;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.clients.StoreClient;
+import ru.dzhioev.petstore.api.clients.UserClient;
+import ru.dzhioev.petstore.api.models.Order;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.models.User;
+import ru.dzhioev.petstore.api.specs.ApiSpecification;
+import ru.dzhioev.petstore.api.transport.HttpTransport;
+import ru.dzhioev.petstore.api.transport.HttpTransports;
+import ru.dzhioev.petstore.api.transport.LightResponseMode;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs a steady, paced workload mix for hours and compares every window of the baseline length
+ * after the baseline against the baseline itself: p99 latency, error rate and heap after GC. The
+ * warm-up phase before the first interval is excluded from all of them.
+ * Latency is measured from the intended start of each request, so a stalled server is not hidden
+ * by the workers falling behind. Memory use is bounded: one histogram per interval of the rolling
+ * window, reused, plus a small snapshot per interval.
+ */
+@Slf4j
+public class SoakRunner {
+
+    private record Operation(String name, int weight, BooleanSupplier call) {
+    }
+
+    /**
+     * Statistics of one interval. Workers announce themselves in {@code writers} before recording,
+     * so the observer can swap in a fresh instance and wait until no one still writes to the old one.
+     */
+    private static final class IntervalStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final AtomicInteger writers = new AtomicInteger();
+
+        void reset() {
+            latency.reset();
+            errors.reset();
+        }
+    }
+
+    private final SoakConfig soak;
+    private final PetClient petClient;
+    private final StoreClient storeClient;
+    private final UserClient userClient;
+    private final WarmupDetector warmup;
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    private volatile IntervalStats recording = new IntervalStats();
+    private volatile boolean stopped;
+
+    public SoakRunner(SoakConfig soak) {
+        this.soak = soak;
+        HttpTransport transport = HttpTransports.create(soak.getTransport(), ApiSpecification.getDefaultRequestSpec());
+        this.petClient = new PetClient(transport);
+        this.storeClient = new StoreClient(transport);
+        this.userClient = new UserClient(transport);
+        this.warmup = WarmupDetector.fromConfig(TestConfig.getInstance());
+    }
+
+    public SoakReport run() {
+        Pet seedPet = petClient.createPetAndGetResponse(TestDataGenerator.generatePet());
+        User seedUser = TestDataGenerator.generateUser();
+        seedUser.setUsername("soak_" + TestDataGenerator.generateValidId());
+        userClient.createUser(seedUser);
+        defineWorkload(seedPet.getId(), seedUser.getUsername());
+
+        log.info("Soak run for {} with {} workers at {} req/s, interval {}, baseline {}", soak.getDuration(),
+                soak.getConcurrency(), soak.getRequestsPerSecond(), soak.getInterval(), soak.getBaseline());
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            long periodNanos = (long) (soak.getConcurrency() * 1e9 / soak.getRequestsPerSecond());
+            for (int i = 0; i < soak.getConcurrency(); i++) {
+                long offset = ThreadLocalRandom.current().nextLong(Math.max(1, periodNanos));
+                workers.submit(() -> work(periodNanos, offset));
+            }
+            try {
+                WarmupResult warmupResult = warmup.awaitSteadyState();
+                swap(new IntervalStats());
+                return observe(warmupResult);
+            } finally {
+                stopped = true;
+            }
+        } finally {
+            petClient.deletePet(seedPet.getId());
+            userClient.deleteUser(seedUser.getUsername());
+        }
+    }
+
+    private void defineWorkload(Long seedPetId, String seedUsername) {
+        addOperation("getPet", 35, () -> isOk(petClient.getPetById(seedPetId)));
+        addOperation("getInventory", 20,
+                () -> storeClient.getInventory(LightResponseMode.DISCARD).getStatusCode() == 200);
+        addOperation("findByStatus", 10,
+                () -> petClient.findPetsByStatus(LightResponseMode.DISCARD, Pet.PetStatus.PENDING).getStatusCode() == 200);
+        addOperation("getUser", 10, () -> isOk(userClient.getUserByUsername(seedUsername)));
+        addOperation("petLifecycle", 15, () -> {
+            Pet pet = TestDataGenerator.generatePet();
+            return isOk(petClient.addPet(pet))
+                    & isOk(petClient.getPetById(pet.getId()))
+                    & isOk(petClient.deletePet(pet.getId()));
+        });
+        addOperation("orderLifecycle", 10, () -> {
+            Order order = TestDataGenerator.generatePlacedOrder(seedPetId);
+            return isOk(storeClient.placeOrder(order))
+                    & isOk(storeClient.getOrderById(order.getId()))
+                    & isOk(storeClient.deleteOrder(order.getId()));
+        });
+    }
+
+    private void addOperation(String name, int weight, BooleanSupplier call) {
+        operations.add(new Operation(name, weight, call));
+        totalWeight += weight;
+    }
+
+    private static boolean isOk(Response response) {
+        return response.getStatusCode() == 200;
+    }
+
+    private void work(long periodNanos, long offsetNanos) {
+        long intendedStart = System.nanoTime() + offsetNanos;
+        while (!stopped) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            Operation operation = pick();
+            boolean success;
+            try {
+                success = operation.call().getAsBoolean();
+            } catch (RuntimeException e) {
+                log.debug("Soak operation {} failed: {}", operation.name(), e.getMessage());
+                success = false;
+            }
+            long latency = System.nanoTime() - intendedStart;
+            warmup.record(latency);
+            record(latency, success);
+            intendedStart += periodNanos;
+        }
+    }
+
+    private void record(long latency, boolean success) {
+        while (true) {
+            IntervalStats stats = recording;
+            stats.writers.incrementAndGet();
+            try {
+                if (stats == recording) {
+                    stats.latency.record(latency);
+                    if (!success) {
+                        stats.errors.increment();
+                    }
+                    return;
+                }
+            } finally {
+                stats.writers.decrementAndGet();
+            }
+        }
+    }
+
+    private IntervalStats swap(IntervalStats next) {
+        IntervalStats finished = recording;
+        recording = next;
+        while (finished.writers.get() != 0) {
+            Thread.onSpinWait();
+        }
+        return finished;
+    }
+
+    private Operation pick() {
+        int point = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            point -= operation.weight();
+            if (point < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private SoakReport observe(WarmupResult warmupResult) {
+        int windowSize = soak.getIntervalsPerWindow();
+        int totalIntervals = soak.getTotalIntervals();
+        long intervalNanos = soak.getInterval().toNanos();
+
+        LatencyHistogram[] ring = new LatencyHistogram[windowSize];
+        long[] ringRequests = new long[windowSize];
+        long[] ringErrors = new long[windowSize];
+        for (int i = 0; i < windowSize; i++) {
+            ring[i] = new LatencyHistogram();
+        }
+        LatencyHistogram window = new LatencyHistogram();
+        LatencyHistogram baseline = new LatencyHistogram();
+        long windowRequests = 0;
+        long windowErrors = 0;
+        long baselineErrors = 0;
+        long[] heapByInterval = new long[totalIntervals];
+
+        double worstWindowP99 = 0;
+        double worstWindowErrorRate = 0;
+        int comparedWindows = 0;
+        long totalRequests = 0;
+        long totalErrors = 0;
+        List<SoakSnapshot> snapshots = new ArrayList<>(totalIntervals);
+        IntervalStats spare = new IntervalStats();
+
+        log.info("Soak intervals:\n{}", SoakSnapshot.header());
+        long start = System.nanoTime();
+        for (int interval = 0; interval < totalIntervals; interval++) {
+            sleepUntil(start + (interval + 1) * intervalNanos);
+            IntervalStats finished = swap(spare);
+
+            long requests = finished.latency.getCount();
+            long errors = finished.errors.sum();
+            totalRequests += requests;
+            totalErrors += errors;
+            if (interval < windowSize) {
+                baseline.add(finished.latency);
+                baselineErrors += errors;
+            }
+
+            int slot = interval % windowSize;
+            if (interval >= windowSize) {
+                window.subtract(ring[slot]);
+                windowRequests -= ringRequests[slot];
+                windowErrors -= ringErrors[slot];
+            }
+            ring[slot].reset();
+            ring[slot].add(finished.latency);
+            ringRequests[slot] = requests;
+            ringErrors[slot] = errors;
+            window.add(finished.latency);
+            windowRequests += requests;
+            windowErrors += errors;
+
+            double windowP99 = window.getPercentileMillis(99);
+            double windowErrorRate = windowRequests == 0 ? 0 : windowErrors * 100.0 / windowRequests;
+            if (interval >= 2 * windowSize - 1) {
+                comparedWindows++;
+                worstWindowP99 = Math.max(worstWindowP99, windowP99);
+                worstWindowErrorRate = Math.max(worstWindowErrorRate, windowErrorRate);
+            }
+
+            heapByInterval[interval] = heapAfterGc();
+            SoakSnapshot snapshot = SoakSnapshot.builder()
+                    .interval(interval)
+                    .elapsedSeconds(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start))
+                    .requests(requests)
+                    .errors(errors)
+                    .p50Millis(finished.latency.getPercentileMillis(50))
+                    .p95Millis(finished.latency.getPercentileMillis(95))
+                    .p99Millis(finished.latency.getPercentileMillis(99))
+                    .maxMillis(finished.latency.getMaxNanos() / 1_000_000.0)
+                    .windowP99Millis(windowP99)
+                    .windowErrorRatePercent(windowErrorRate)
+                    .heapAfterGcBytes(heapByInterval[interval])
+                    .build();
+            snapshots.add(snapshot);
+            log.info(snapshot.toRow());
+
+            finished.reset();
+            spare = finished;
+        }
+
+        long baselineRequests = baseline.getCount();
+        return verdict(SoakReport.builder()
+                .warmup(warmupResult)
+                .snapshots(snapshots)
+                .totalRequests(totalRequests)
+                .totalErrors(totalErrors)
+                .comparedWindows(comparedWindows)
+                .baselineP99Millis(baseline.getPercentileMillis(99))
+                .worstWindowP99Millis(worstWindowP99)
+                .baselineErrorRatePercent(baselineRequests == 0 ? 0 : baselineErrors * 100.0 / baselineRequests)
+                .worstWindowErrorRatePercent(worstWindowErrorRate)
+                .baselineHeapBytes(average(heapByInterval, 0, windowSize))
+                .finalHeapBytes(average(heapByInterval, totalIntervals - windowSize, totalIntervals)));
+    }
+
+    private SoakReport verdict(SoakReport.SoakReportBuilder builder) {
+        SoakReport measured = builder.findings(List.of()).build();
+        List<SoakReport.Finding> findings = new ArrayList<>();
+        if (measured.getP99DriftPercent() > soak.getMaxP99DriftPercent()) {
+            findings.add(SoakReport.Finding.LATENCY_DRIFT);
+        }
+        if (measured.getWorstWindowErrorRatePercent() - measured.getBaselineErrorRatePercent()
+                > soak.getMaxErrorRateIncreasePercent()) {
+            findings.add(SoakReport.Finding.ERROR_TREND);
+        }
+        if (measured.getHeapGrowthPercent() > soak.getMaxHeapGrowthPercent()) {
+            findings.add(SoakReport.Finding.MEMORY_GROWTH);
+        }
+        SoakReport report = builder.findings(List.copyOf(findings)).build();
+        log.info("Soak result: {}", report.summary());
+        return report;
+    }
+
+    private static long heapAfterGc() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && afterGc != null) {
+                used += afterGc.getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static long average(long[] values, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return to > from ? sum / (to - from) : 0;
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted during soak run", e);
+            }
+        }
+    }
+}
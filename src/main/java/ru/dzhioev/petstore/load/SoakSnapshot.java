@@ -0,0 +1,36 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SoakSnapshot {
+    int interval;
+    long elapsedSeconds;
+    long requests;
+    long errors;
+    double p50Millis;
+    double p95Millis;
+    double p99Millis;
+    double maxMillis;
+    double windowP99Millis;
+    double windowErrorRatePercent;
+    long heapAfterGcBytes;
+
+    public double getErrorRatePercent() {
+        return requests == 0 ? 0 : errors * 100.0 / requests;
+    }
+
+    public String toRow() {
+        return String.format("%6d %8d %9d %7d %7.2f %9.2f %9.2f %9.2f %9.2f %11.2f %9.2f %10d",
+                interval, elapsedSeconds, requests, errors, getErrorRatePercent(), p50Millis, p95Millis, p99Millis,
+                maxMillis, windowP99Millis, windowErrorRatePercent, heapAfterGcBytes / (1024 * 1024));
+    }
+
+    public static String header() {
+        return String.format("%6s %8s %9s %7s %7s %9s %9s %9s %9s %11s %9s %10s",
+                "#", "elapsed", "requests", "errors", "err %", "p50 ms", "p95 ms", "p99 ms", "max ms",
+                "window p99", "window %", "heap MB");
+    }
+}
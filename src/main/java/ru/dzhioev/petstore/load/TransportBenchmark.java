@@ -0,0 +1,143 @@
+package ru.dzhioev.petstore.load;
+
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.transport.ApiRequest;
+import ru.dzhioev.petstore.api.transport.HttpTransport;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the client-side overhead of HTTP transports on the same request. CPU time and
+ * allocations are measured on the calling thread, latency and async throughput end to end.
+ */
+@Slf4j
+public class TransportBenchmark {
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ApiRequest request;
+    private final int warmupRequests;
+    private final int measuredRequests;
+    private final int asyncConcurrency;
+
+    public TransportBenchmark(int warmupRequests, int measuredRequests, int asyncConcurrency) {
+        this(ApiRequest.of(Method.GET, "/store/inventory").build(), warmupRequests, measuredRequests, asyncConcurrency);
+    }
+
+    public TransportBenchmark(ApiRequest request, int warmupRequests, int measuredRequests, int asyncConcurrency) {
+        this.request = request;
+        this.warmupRequests = warmupRequests;
+        this.measuredRequests = measuredRequests;
+        this.asyncConcurrency = asyncConcurrency;
+    }
+
+    public List<Result> run(List<HttpTransport> transports) {
+        List<Result> results = new ArrayList<>();
+        for (HttpTransport transport : transports) {
+            results.add(run(transport));
+        }
+
+        StringBuilder report = new StringBuilder("Transport overhead for ")
+                .append(request.getMethod()).append(' ').append(request.getPath()).append(":\n")
+                .append(Result.header());
+        results.forEach(result -> report.append('\n').append(result.toRow()));
+        log.info(report.toString());
+        return results;
+    }
+
+    public Result run(HttpTransport transport) {
+        WarmupDetector warmup = WarmupDetector.fromConfig(TestConfig.getInstance());
+        for (int i = 0; !(warmup.isSteady() && i >= warmupRequests); i++) {
+            long start = System.nanoTime();
+            transport.execute(request);
+            warmup.record(System.nanoTime() - start);
+        }
+
+        LatencyHistogram latency = new LatencyHistogram();
+        int failures = 0;
+        long threadId = Thread.currentThread().threadId();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < measuredRequests; i++) {
+            long start = System.nanoTime();
+            Response response = transport.execute(request);
+            latency.record(System.nanoTime() - start);
+            if (response.getStatusCode() >= 400) {
+                failures++;
+            }
+        }
+
+        long cpuNanos = threads.getCurrentThreadCpuTime() - cpuBefore;
+        long allocatedBytes = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return Result.builder()
+                .transport(transport.name())
+                .warmupMillis(warmup.getResult().getDurationMillis())
+                .requests(measuredRequests)
+                .failures(failures)
+                .p50Millis(latency.getPercentileMillis(50))
+                .p99Millis(latency.getPercentileMillis(99))
+                .cpuMicrosPerRequest(cpuNanos / 1000.0 / Math.max(1, measuredRequests))
+                .allocatedBytesPerRequest(allocatedBytes / Math.max(1, measuredRequests))
+                .asyncRequestsPerSecond(measureAsyncThroughput(transport))
+                .build();
+    }
+
+    private double measureAsyncThroughput(HttpTransport transport) {
+        Semaphore window = new Semaphore(asyncConcurrency);
+        AtomicInteger completed = new AtomicInteger();
+        List<CompletableFuture<Response>> futures = new ArrayList<>(measuredRequests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < measuredRequests; i++) {
+            window.acquireUninterruptibly();
+            futures.add(transport.executeAsync(request).whenComplete((response, error) -> {
+                completed.incrementAndGet();
+                window.release();
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(error -> null)
+                .join();
+        long elapsed = System.nanoTime() - start;
+
+        return completed.get() / (elapsed / 1_000_000_000.0);
+    }
+
+    @Value
+    @Builder
+    public static class Result {
+        String transport;
+        long warmupMillis;
+        int requests;
+        int failures;
+        double p50Millis;
+        double p99Millis;
+        double cpuMicrosPerRequest;
+        long allocatedBytesPerRequest;
+        double asyncRequestsPerSecond;
+
+        public String toRow() {
+            return String.format("%-12s %10d %8d %8d %10.2f %10.2f %12.1f %14d %12.1f",
+                    transport, warmupMillis, requests, failures, p50Millis, p99Millis, cpuMicrosPerRequest,
+                    allocatedBytesPerRequest, asyncRequestsPerSecond);
+        }
+
+        public static String header() {
+            return String.format("%-12s %10s %8s %8s %10s %10s %12s %14s %12s",
+                    "transport", "warmup ms", "requests", "failed", "p50 ms", "p99 ms", "cpu us/req", "alloc B/req", "async req/s");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class UploadCurvePoint {
+    long payloadBytes;
+    long warmupMillis;
+    int uploads;
+    int failures;
+    double throughputMegabytesPerSecond;
+    double p50Millis;
+    double p95Millis;
+    double p99Millis;
+
+    public String toRow() {
+        return String.format("%12d %10d %8d %8d %12.2f %10.2f %10.2f %10.2f",
+                payloadBytes, warmupMillis, uploads, failures, throughputMegabytesPerSecond,
+                p50Millis, p95Millis, p99Millis);
+    }
+
+    public static String header() {
+        return String.format("%12s %10s %8s %8s %12s %10s %10s %10s",
+                "bytes", "warmup ms", "uploads", "failed", "MB/s", "p50 ms", "p95 ms", "p99 ms");
+    }
+}
@@ -0,0 +1,48 @@
+package ru.dzhioev.petstore.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class UploadMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder totalBytes = new LongAdder();
+    private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastEndNanos = new AtomicLong(Long.MIN_VALUE);
+
+    public void record(long bytes, long startNanos, long elapsedNanos) {
+        latency.record(elapsedNanos);
+        totalBytes.add(bytes);
+        firstStartNanos.accumulateAndGet(startNanos, Math::min);
+        lastEndNanos.accumulateAndGet(startNanos + elapsedNanos, Math::max);
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getUploadCount() {
+        return latency.getCount();
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.sum();
+    }
+
+    public double getThroughputMegabytesPerSecond() {
+        long wallNanos = lastEndNanos.get() - firstStartNanos.get();
+        if (getUploadCount() == 0 || wallNanos <= 0) {
+            return 0;
+        }
+        return megabytesPerSecond(getTotalBytes(), wallNanos);
+    }
+
+    public String summary() {
+        return String.format("uploads=%d bytes=%d throughput=%.2fMB/s latency: %s",
+                getUploadCount(), getTotalBytes(), getThroughputMegabytesPerSecond(), latency.summary());
+    }
+
+    public static double megabytesPerSecond(long bytes, long nanos) {
+        return nanos <= 0 ? 0 : (bytes / (1024.0 * 1024.0)) / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,131 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when a load run has left its warm-up phase (class loading, JIT compilation, connection
+ * setup). Latencies are grouped into fixed time windows; the run is steady once throughput and
+ * median latency of the last {@code stableWindows} windows each have a coefficient of variation
+ * within {@code tolerance}, or when {@code maxWarmup} has passed. Workers call {@link #record};
+ * either a single-threaded caller polls {@link #isSteady()} or a coordinator blocks in
+ * {@link #awaitSteadyState()}.
+ */
+@Slf4j
+public class WarmupDetector {
+
+    private final long windowNanos;
+    private final int stableWindows;
+    private final double tolerance;
+    private final long maxWarmupNanos;
+
+    private final long start = System.nanoTime();
+    private final double[] throughputs;
+    private final double[] medians;
+    private volatile LatencyHistogram current = new LatencyHistogram();
+    private volatile WarmupResult result;
+    private long windowStart = start;
+    private long requests;
+    private int windows;
+
+    public WarmupDetector(Duration window, int stableWindows, double tolerance, Duration maxWarmup) {
+        if (stableWindows < 2) {
+            throw new IllegalArgumentException("At least two windows are needed to judge stability");
+        }
+        this.windowNanos = window.toNanos();
+        this.stableWindows = stableWindows;
+        this.tolerance = tolerance;
+        this.maxWarmupNanos = maxWarmup.toNanos();
+        this.throughputs = new double[stableWindows];
+        this.medians = new double[stableWindows];
+    }
+
+    public static WarmupDetector fromConfig(TestConfig config) {
+        return new WarmupDetector(
+                Duration.parse(config.property("warmup.window", "PT2S")),
+                Integer.parseInt(config.property("warmup.stable.windows", "3")),
+                Double.parseDouble(config.property("warmup.tolerance", "0.1")),
+                Duration.parse(config.property("warmup.max", "PT60S")));
+    }
+
+    public void record(long latencyNanos) {
+        if (result == null) {
+            current.record(latencyNanos);
+        }
+    }
+
+    public synchronized boolean isSteady() {
+        long now = System.nanoTime();
+        while (result == null && now - windowStart >= windowNanos) {
+            closeWindow();
+            windowStart += windowNanos;
+        }
+        return result != null;
+    }
+
+    public WarmupResult awaitSteadyState() {
+        while (!isSteady()) {
+            long remaining;
+            synchronized (this) {
+                remaining = windowStart + windowNanos - System.nanoTime();
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.max(remaining, 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted during warm-up", e);
+            }
+        }
+        return result;
+    }
+
+    public WarmupResult getResult() {
+        return result;
+    }
+
+    private void closeWindow() {
+        LatencyHistogram finished = current;
+        current = new LatencyHistogram();
+        long count = finished.getCount();
+        int slot = windows % stableWindows;
+        throughputs[slot] = count * 1e9 / windowNanos;
+        medians[slot] = finished.getPercentileMillis(50);
+        requests += count;
+        windows++;
+
+        boolean elapsed = windowStart + windowNanos - start >= maxWarmupNanos;
+        boolean stable = windows >= stableWindows && count > 0
+                && coefficientOfVariation(throughputs) <= tolerance
+                && coefficientOfVariation(medians) <= tolerance;
+        if (stable || elapsed) {
+            result = WarmupResult.builder()
+                    .durationMillis(TimeUnit.NANOSECONDS.toMillis(windowStart + windowNanos - start))
+                    .requests(requests)
+                    .windows(windows)
+                    .converged(stable)
+                    .requestsPerSecond(throughputs[slot])
+                    .p50Millis(medians[slot])
+                    .build();
+            log.info("Load run {}", result.summary());
+        }
+    }
+
+    static double coefficientOfVariation(double[] values) {
+        double mean = 0;
+        for (double value : values) {
+            mean += value;
+        }
+        mean /= values.length;
+        if (mean == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double variance = 0;
+        for (double value : values) {
+            variance += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(variance / values.length) / mean;
+    }
+}
@@ -0,0 +1,20 @@
+package ru.dzhioev.petstore.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class WarmupResult {
+    long durationMillis;
+    long requests;
+    int windows;
+    boolean converged;
+    double requestsPerSecond;
+    double p50Millis;
+
+    public String summary() {
+        return String.format("warm-up %s after %dms (%d requests, %d windows), steady at %.1f req/s, p50 %.2fms",
+                converged ? "converged" : "timed out", durationMillis, requests, windows, requestsPerSecond, p50Millis);
+    }
+}
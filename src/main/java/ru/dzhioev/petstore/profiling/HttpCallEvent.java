@@ -0,0 +1,71 @@
+package ru.dzhioev.petstore.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.LongSupplier;
+
+/**
+ * One Petstore HTTP call as seen by the client. Created and begun for every call; the fields are
+ * only computed when the event is going to be committed, so with recording off the cost is a
+ * begin/end pair on an object the JIT can scalar-replace.
+ */
+@Name("ru.dzhioev.petstore.HttpCall")
+@Label("HTTP Call")
+@Category({"Petstore", "HTTP"})
+@Description("HTTP request issued by a Petstore API client")
+@StackTrace(false)
+public class HttpCallEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path Template")
+    String path;
+
+    @Label("Transport")
+    String transport;
+
+    @Label("Status Code")
+    @Description("HTTP status, or 0 when the call failed without a response")
+    int statusCode;
+
+    @Label("Bytes Sent")
+    @Description("Request body size as encoded by the transport, -1 when not known before sending")
+    @DataAmount
+    long bytesSent;
+
+    @Label("Bytes Received")
+    @DataAmount
+    long bytesReceived;
+
+    @Label("Retries")
+    @Description("Attempts made before this one for the same logical call")
+    int retries;
+
+    /**
+     * Called by the transport with the body size it is about to send.
+     */
+    public void setBytesSent(long bytesSent) {
+        this.bytesSent = bytesSent;
+    }
+
+    public void finish(String method, String path, String transport, int statusCode, int retries,
+                       LongSupplier bytesReceived) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.path = path;
+            this.transport = transport;
+            this.statusCode = statusCode;
+            this.retries = retries;
+            this.bytesReceived = bytesReceived.getAsLong();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ru.dzhioev.petstore.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A Flight Recorder recording around a test or load run. Closing it dumps the recording to
+ * {@code jfr.dir} and logs a {@link JfrSummary}.
+ */
+@Slf4j
+public class JfrSession implements AutoCloseable {
+
+    private static final TestConfig config = TestConfig.getInstance();
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Recording recording;
+    private final Path destination;
+
+    private JfrSession(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(config.property("jfr.enabled", "false"));
+    }
+
+    public static JfrSession start(String name) {
+        String settings = config.property("jfr.settings", "profile");
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName(name);
+            recording.setToDisk(true);
+            Path destination = Path.of(config.property("jfr.dir", "target/jfr"))
+                    .resolve(name + "-" + LocalDateTime.now().format(TIMESTAMP) + ".jfr");
+            recording.start();
+            log.info("Started JFR recording {} with '{}' settings", name, settings);
+            return new JfrSession(recording, destination);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings " + settings, e);
+        }
+    }
+
+    public Path stop() {
+        recording.stop();
+        try {
+            Files.createDirectories(destination.getParent());
+            recording.dump(destination);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save JFR recording to " + destination, e);
+        } finally {
+            recording.close();
+        }
+        return destination;
+    }
+
+    @Override
+    public void close() {
+        Path file = stop();
+        int top = Integer.parseInt(config.property("jfr.top", "10"));
+        log.info("JFR recording saved to {}\n{}", file.toAbsolutePath(), JfrSummary.read(file).format(top));
+    }
+}
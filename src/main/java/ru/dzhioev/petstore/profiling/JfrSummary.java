@@ -0,0 +1,128 @@
+package ru.dzhioev.petstore.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates a recording into allocation sites, CPU methods and GC pauses. Sites are reported
+ * twice: by the top frame, and by the first frame of this project, which attributes JDK and
+ * library work (serialization, logging, HTTP) to the client code that caused it.
+ */
+@Getter
+public class JfrSummary {
+
+    private static final String APPLICATION_PACKAGE = "ru.dzhioev.petstore.";
+
+    private final Map<String, Long> allocationSites = new HashMap<>();
+    private final Map<String, Long> allocatingApplicationFrames = new HashMap<>();
+    private final Map<String, Long> cpuMethods = new HashMap<>();
+    private final Map<String, Long> cpuApplicationFrames = new HashMap<>();
+    private long allocatedBytes;
+    private long cpuSamples;
+    private long gcCount;
+    private Duration gcPauseTotal = Duration.ZERO;
+    private Duration gcPauseMax = Duration.ZERO;
+
+    public static JfrSummary read(Path recording) {
+        JfrSummary summary = new JfrSummary();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                summary.accept(file.readEvent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read recording " + recording, e);
+        }
+        return summary;
+    }
+
+    private void accept(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case "jdk.ObjectAllocationSample" -> {
+                long weight = event.getLong("weight");
+                allocatedBytes += weight;
+                allocationSites.merge(topFrame(event.getStackTrace()), weight, Long::sum);
+                allocatingApplicationFrames.merge(applicationFrame(event.getStackTrace()), weight, Long::sum);
+            }
+            case "jdk.ExecutionSample" -> {
+                cpuSamples++;
+                cpuMethods.merge(topFrame(event.getStackTrace()), 1L, Long::sum);
+                cpuApplicationFrames.merge(applicationFrame(event.getStackTrace()), 1L, Long::sum);
+            }
+            case "jdk.GarbageCollection" -> {
+                gcCount++;
+                gcPauseTotal = gcPauseTotal.plus(event.getDuration("sumOfPauses"));
+                Duration longest = event.getDuration("longestPause");
+                if (longest.compareTo(gcPauseMax) > 0) {
+                    gcPauseMax = longest;
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    public String format(int top) {
+        StringBuilder report = new StringBuilder();
+        appendTop(report, "Top allocation sites (sampled MB)", allocationSites, allocatedBytes, top, true);
+        appendTop(report, "Top allocating project frames (sampled MB)", allocatingApplicationFrames, allocatedBytes, top, true);
+        appendTop(report, "Top CPU methods (samples)", cpuMethods, cpuSamples, top, false);
+        appendTop(report, "Top CPU project frames (samples)", cpuApplicationFrames, cpuSamples, top, false);
+        report.append(String.format("GC: %d collections, total pause %d ms, longest pause %d ms",
+                gcCount, gcPauseTotal.toMillis(), gcPauseMax.toMillis()));
+        return report.toString();
+    }
+
+    private static void appendTop(StringBuilder report, String title, Map<String, Long> values, long total,
+                                  int top, boolean bytes) {
+        report.append(title).append(":\n");
+        sortedTop(values, top).forEach((site, value) -> report.append(String.format("%10s %6.1f%%  %s%n",
+                bytes ? String.format("%.1f", value / (1024.0 * 1024)) : String.valueOf(value),
+                total == 0 ? 0 : value * 100.0 / total, site)));
+    }
+
+    static Map<String, Long> sortedTop(Map<String, Long> values, int top) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        values.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(top)
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<no stack>";
+        }
+        return describe(stackTrace.getFrames().get(0));
+    }
+
+    private static String applicationFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "<no stack>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return stackTrace.isTruncated() ? "<truncated stack>" : "<outside project code>";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
@@ -0,0 +1,328 @@
+package ru.dzhioev.petstore.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.utils.JsonUtils;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the public Petstore API, for seeding datasets far larger than the public
+ * server accepts. Pets, orders and users are stored as JSON in {@link OffHeapStore}s, so heap
+ * usage and GC pauses stay flat as the dataset grows. It covers the pet, store and user
+ * endpoints the clients use except form updates and image uploads.
+ */
+@Slf4j
+public class LocalPetstore implements AutoCloseable {
+
+    private static final String BASE_PATH = "/v2";
+    private static final byte NO_STATUS = -1;
+    private static final Pet.PetStatus[] STATUSES = Pet.PetStatus.values();
+    private static final DateTimeFormatter EXPIRES_AFTER_FORMAT =
+            DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final OffHeapStore pets;
+    private final OffHeapStore orders;
+    private final OffHeapStore users;
+    private final AtomicLong nextId = new AtomicLong(System.currentTimeMillis());
+
+    private LocalPetstore(int port, int slabBytes) throws IOException {
+        pets = new OffHeapStore(slabBytes);
+        orders = new OffHeapStore(slabBytes);
+        users = new OffHeapStore(slabBytes);
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext(BASE_PATH + "/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Local Petstore listening on {}", getBaseUrl());
+    }
+
+    public static LocalPetstore start(int port, int slabBytes) {
+        try {
+            return new LocalPetstore(port, slabBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start local Petstore on port " + port, e);
+        }
+    }
+
+    public static LocalPetstore fromConfig(TestConfig config) {
+        return start(Integer.parseInt(config.property("standin.port", "8089")),
+                Integer.parseInt(config.property("standin.slab.bytes", "67108864")));
+    }
+
+    public static void main(String[] args) {
+        LocalPetstore petstore = fromConfig(TestConfig.getInstance());
+        Runtime.getRuntime().addShutdownHook(new Thread(petstore::close, "local-petstore-shutdown"));
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    public String summary() {
+        return String.format("pets=%d orders=%d users=%d liveBytes=%d offHeapBytes=%d",
+                pets.size(), orders.size(), users.size(),
+                pets.getLiveBytes() + orders.getLiveBytes() + users.getLiveBytes(),
+                pets.getOffHeapBytes() + orders.getOffHeapBytes() + users.getOffHeapBytes());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+        log.info("Local Petstore stopped: {}", summary());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String[] path = exchange.getRequestURI().getPath().substring(BASE_PATH.length() + 1).split("/");
+            String method = exchange.getRequestMethod();
+            switch (path[0]) {
+                case "pet" -> handlePet(exchange, method, path);
+                case "store" -> handleStore(exchange, method, path);
+                case "user" -> handleUser(exchange, method, path);
+                default -> send(exchange, 404, message(404, "unknown", "Not found"));
+            }
+        } catch (JacksonException | IllegalArgumentException e) {
+            send(exchange, 400, message(400, "error", "Bad input"));
+        } catch (RuntimeException e) {
+            log.warn("Local Petstore failed on {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            send(exchange, 500, message(500, "unknown", "something bad happened"));
+        }
+    }
+
+    private void handlePet(HttpExchange exchange, String method, String[] path) throws IOException {
+        if (path.length == 1 && (method.equals("POST") || method.equals("PUT"))) {
+            ObjectNode pet = readObject(exchange);
+            long id = assignId(pet);
+            byte[] body = JsonUtils.toBytes(pet);
+            pets.put(id, statusTag(pet.path("status").asString("")), body);
+            send(exchange, 200, body);
+        } else if (path.length == 2 && path[1].equals("findByStatus") && method.equals("GET")) {
+            findByStatus(exchange, query(exchange).getOrDefault("status", ""));
+        } else if (path.length == 2 && method.equals("GET")) {
+            sendStored(exchange, pets.get(Long.parseLong(path[1])), "Pet not found");
+        } else if (path.length == 2 && method.equals("DELETE")) {
+            deleteStored(exchange, pets, Long.parseLong(path[1]), path[1]);
+        } else {
+            send(exchange, 405, message(405, "unknown", "Method not allowed"));
+        }
+    }
+
+    private void handleStore(HttpExchange exchange, String method, String[] path) throws IOException {
+        if (path.length == 2 && path[1].equals("inventory") && method.equals("GET")) {
+            Map<String, Integer> inventory = new LinkedHashMap<>();
+            for (int i = 0; i < STATUSES.length; i++) {
+                inventory.put(STATUSES[i].getValue(), pets.countWithTag((byte) i));
+            }
+            send(exchange, 200, JsonUtils.toBytes(inventory));
+        } else if (path.length == 2 && path[1].equals("order") && method.equals("POST")) {
+            ObjectNode order = readObject(exchange);
+            long id = assignId(order);
+            byte[] body = JsonUtils.toBytes(order);
+            orders.put(id, NO_STATUS, body);
+            send(exchange, 200, body);
+        } else if (path.length == 3 && path[1].equals("order") && method.equals("GET")) {
+            sendStored(exchange, orders.get(Long.parseLong(path[2])), "Order not found");
+        } else if (path.length == 3 && path[1].equals("order") && method.equals("DELETE")) {
+            deleteStored(exchange, orders, Long.parseLong(path[2]), path[2]);
+        } else {
+            send(exchange, 405, message(405, "unknown", "Method not allowed"));
+        }
+    }
+
+    private void handleUser(HttpExchange exchange, String method, String[] path) throws IOException {
+        if (path.length == 1 && method.equals("POST")) {
+            ObjectNode user = readObject(exchange);
+            long id = assignId(user);
+            storeUser(user);
+            send(exchange, 200, message(200, "unknown", String.valueOf(id)));
+        } else if (path.length == 2 && (path[1].equals("createWithList") || path[1].equals("createWithArray"))
+                && method.equals("POST")) {
+            for (JsonNode user : JsonUtils.mapper().readTree(exchange.getRequestBody())) {
+                assignId((ObjectNode) user);
+                storeUser((ObjectNode) user);
+            }
+            send(exchange, 200, message(200, "unknown", "ok"));
+        } else if (path.length == 2 && path[1].equals("login") && method.equals("GET")) {
+            login(exchange, query(exchange));
+        } else if (path.length == 2 && path[1].equals("logout") && method.equals("GET")) {
+            send(exchange, 200, message(200, "unknown", "ok"));
+        } else if (path.length == 2 && method.equals("GET")) {
+            sendStored(exchange, users.get(userKey(path[1])), "User not found");
+        } else if (path.length == 2 && method.equals("PUT")) {
+            ObjectNode user = readObject(exchange);
+            user.put("username", path[1]);
+            long id = assignId(user);
+            storeUser(user);
+            send(exchange, 200, message(200, "unknown", String.valueOf(id)));
+        } else if (path.length == 2 && method.equals("DELETE")) {
+            deleteStored(exchange, users, userKey(path[1]), path[1]);
+        } else {
+            send(exchange, 405, message(405, "unknown", "Method not allowed"));
+        }
+    }
+
+    private void findByStatus(HttpExchange exchange, String statusParam) throws IOException {
+        boolean[] wanted = new boolean[STATUSES.length];
+        for (String status : statusParam.split(",")) {
+            byte tag = statusTag(status.trim());
+            if (tag != NO_STATUS) {
+                wanted[tag] = true;
+            }
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream body = exchange.getResponseBody()) {
+            boolean[] first = {true};
+            body.write('[');
+            for (byte tag = 0; tag < STATUSES.length; tag++) {
+                if (wanted[tag]) {
+                    pets.recordsWithTag(tag).forEach(pet -> {
+                        try {
+                            if (!first[0]) {
+                                body.write(',');
+                            }
+                            first[0] = false;
+                            body.write(pet);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            }
+            body.write(']');
+        }
+    }
+
+    private void login(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String username = query.getOrDefault("username", "");
+        byte[] stored = username.isEmpty() ? null : users.get(userKey(username));
+        if (stored == null || !JsonUtils.mapper().readTree(stored).path("password").asString("")
+                .equals(query.getOrDefault("password", ""))) {
+            send(exchange, 400, message(400, "unknown", "Invalid username/password supplied"));
+            return;
+        }
+        exchange.getResponseHeaders().set("X-Rate-Limit", "5000");
+        exchange.getResponseHeaders().set("X-Expires-After",
+                ZonedDateTime.now(ZoneOffset.UTC).plusHours(1).format(EXPIRES_AFTER_FORMAT));
+        send(exchange, 200, message(200, "unknown", "logged in user session:" + System.currentTimeMillis()));
+    }
+
+    private void storeUser(ObjectNode user) {
+        String username = user.path("username").asString("");
+        if (username.isEmpty()) {
+            throw new IllegalArgumentException("User without username");
+        }
+        users.put(userKey(username), NO_STATUS, JsonUtils.toBytes(user));
+    }
+
+    private void deleteStored(HttpExchange exchange, OffHeapStore store, long key, String name) throws IOException {
+        if (store.remove(key)) {
+            send(exchange, 200, message(200, "unknown", name));
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+        }
+    }
+
+    private void sendStored(HttpExchange exchange, byte[] stored, String notFound) throws IOException {
+        if (stored == null) {
+            send(exchange, 404, message(1, "error", notFound));
+        } else {
+            send(exchange, 200, stored);
+        }
+    }
+
+    private long assignId(ObjectNode entity) {
+        JsonNode id = entity.get("id");
+        if (id != null && id.isNumber() && id.asLong() != 0) {
+            return id.asLong();
+        }
+        long assigned = nextId.incrementAndGet();
+        entity.put("id", assigned);
+        return assigned;
+    }
+
+    private static ObjectNode readObject(HttpExchange exchange) throws IOException {
+        JsonNode node = JsonUtils.mapper().readTree(exchange.getRequestBody());
+        if (!(node instanceof ObjectNode object)) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return object;
+    }
+
+    private static byte statusTag(String status) {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (STATUSES[i].getValue().equalsIgnoreCase(status)) {
+                return (byte) i;
+            }
+        }
+        return NO_STATUS;
+    }
+
+    /**
+     * 64-bit FNV-1a of the username; a collision between two usernames is not expected at the
+     * dataset sizes this stand-in is meant for.
+     */
+    private static long userKey(String username) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : username.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new LinkedHashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                            URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return params;
+    }
+
+    private static byte[] message(int code, String type, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", code);
+        body.put("type", type);
+        body.put("message", message);
+        return JsonUtils.toBytes(body);
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package ru.dzhioev.petstore.standin;
+
+import ru.dzhioev.petstore.utils.LongHashing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Open-addressing long-to-long hash table kept in two direct buffers (16 bytes per slot, linear
+ * probing, backward-shift deletion), so an index over tens of millions of entities adds no heap
+ * objects. Holds up to 2^26 entries. Not thread-safe.
+ */
+final class OffHeapLongIndex {
+
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MAX_CAPACITY = 1 << 27;
+
+    private ByteBuffer keys;
+    private ByteBuffer values;
+    private int mask;
+    private int threshold;
+    private int size;
+    private boolean containsZero;
+    private long zeroValue;
+
+    OffHeapLongIndex(int initialCapacity) {
+        allocate(Integer.highestOneBit(Math.max(16, initialCapacity - 1)) << 1);
+    }
+
+    long get(long key, long missingValue) {
+        if (key == 0) {
+            return containsZero ? zeroValue : missingValue;
+        }
+        for (int index = slot(key); ; index = (index + 1) & mask) {
+            long current = keyAt(index);
+            if (current == 0) {
+                return missingValue;
+            }
+            if (current == key) {
+                return valueAt(index);
+            }
+        }
+    }
+
+    long put(long key, long value, long missingValue) {
+        if (key == 0) {
+            long previous = containsZero ? zeroValue : missingValue;
+            size += containsZero ? 0 : 1;
+            containsZero = true;
+            zeroValue = value;
+            return previous;
+        }
+        int index = slot(key);
+        for (long current = keyAt(index); current != 0; current = keyAt(index)) {
+            if (current == key) {
+                long previous = valueAt(index);
+                values.putLong(index * Long.BYTES, value);
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        set(index, key, value);
+        if (++size > threshold) {
+            rehash();
+        }
+        return missingValue;
+    }
+
+    long remove(long key, long missingValue) {
+        if (key == 0) {
+            if (!containsZero) {
+                return missingValue;
+            }
+            containsZero = false;
+            size--;
+            return zeroValue;
+        }
+        for (int index = slot(key); ; index = (index + 1) & mask) {
+            long current = keyAt(index);
+            if (current == 0) {
+                return missingValue;
+            }
+            if (current == key) {
+                long previous = valueAt(index);
+                shiftKeys(index);
+                size--;
+                return previous;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long capacityBytes() {
+        return (long) keys.capacity() + values.capacity();
+    }
+
+    void forEach(LongLongConsumer action) {
+        if (containsZero) {
+            action.accept(0, zeroValue);
+        }
+        for (int index = 0; index <= mask; index++) {
+            long key = keyAt(index);
+            if (key != 0) {
+                action.accept(key, valueAt(index));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+
+    private void shiftKeys(int position) {
+        while (true) {
+            int last = position;
+            position = (position + 1) & mask;
+            long current;
+            while (true) {
+                current = keyAt(position);
+                if (current == 0) {
+                    set(last, 0, 0);
+                    return;
+                }
+                int home = slot(current);
+                boolean canMove = last <= position
+                        ? last >= home || home > position
+                        : last >= home && home > position;
+                if (canMove) {
+                    break;
+                }
+                position = (position + 1) & mask;
+            }
+            set(last, current, valueAt(position));
+        }
+    }
+
+    private void rehash() {
+        if (mask + 1 >= MAX_CAPACITY) {
+            throw new IllegalStateException("Off-heap index is full at " + size + " entries");
+        }
+        ByteBuffer oldKeys = keys;
+        ByteBuffer oldValues = values;
+        int oldCapacity = mask + 1;
+        allocate(oldCapacity * 2);
+        for (int i = 0; i < oldCapacity; i++) {
+            long key = oldKeys.getLong(i * Long.BYTES);
+            if (key != 0) {
+                int index = slot(key);
+                while (keyAt(index) != 0) {
+                    index = (index + 1) & mask;
+                }
+                set(index, key, oldValues.getLong(i * Long.BYTES));
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+        values = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private long keyAt(int index) {
+        return keys.getLong(index * Long.BYTES);
+    }
+
+    private long valueAt(int index) {
+        return values.getLong(index * Long.BYTES);
+    }
+
+    private void set(int index, long key, long value) {
+        keys.putLong(index * Long.BYTES, key);
+        values.putLong(index * Long.BYTES, value);
+    }
+
+    private int slot(long key) {
+        return LongHashing.homeSlot(key, mask);
+    }
+}
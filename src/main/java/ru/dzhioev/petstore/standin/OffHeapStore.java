@@ -0,0 +1,191 @@
+package ru.dzhioev.petstore.standin;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * Serialized entities kept outside the Java heap. Records ({@code int length, byte tag, bytes})
+ * are appended to fixed-size direct buffer slabs and located through an {@link OffHeapLongIndex},
+ * so heap usage does not grow with the number of stored entities. Updates append a new record and
+ * deletes only drop the index entry; the space they leave behind is not reused.
+ */
+public class OffHeapStore {
+
+    private static final int HEADER_BYTES = Integer.BYTES + 1;
+    private static final long MISSING = -1;
+
+    private final int slabBytes;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final OffHeapLongIndex index = new OffHeapLongIndex(1024);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ByteBuffer current;
+    private long liveBytes;
+
+    public OffHeapStore(int slabBytes) {
+        this.slabBytes = slabBytes;
+    }
+
+    public void put(long key, byte tag, byte[] value) {
+        int recordBytes = HEADER_BYTES + value.length;
+        if (recordBytes > slabBytes) {
+            throw new IllegalArgumentException("Record of " + value.length + " bytes does not fit a " + slabBytes + " byte slab");
+        }
+        lock.writeLock().lock();
+        try {
+            if (current == null || current.remaining() < recordBytes) {
+                current = ByteBuffer.allocateDirect(slabBytes);
+                slabs.add(current);
+            }
+            int offset = current.position();
+            current.putInt(value.length).put(tag).put(value);
+            long previous = index.put(key, location(slabs.size() - 1, offset), MISSING);
+            if (previous != MISSING) {
+                liveBytes -= HEADER_BYTES + slab(previous).getInt(offset(previous));
+            }
+            liveBytes += recordBytes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public byte[] get(long key) {
+        lock.readLock().lock();
+        try {
+            long location = index.get(key, MISSING);
+            return location == MISSING ? null : read(location);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean remove(long key) {
+        lock.writeLock().lock();
+        try {
+            long location = index.remove(key, MISSING);
+            if (location == MISSING) {
+                return false;
+            }
+            liveBytes -= HEADER_BYTES + slab(location).getInt(offset(location));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the records currently stored with {@code tag}. Only their locations are collected
+     * under the lock, reading just the one-byte tag of each record; records are never overwritten
+     * in place, so the snapshot can be read after the lock is released, e.g. while writing it to a
+     * slow client.
+     */
+    public Records recordsWithTag(byte tag) {
+        lock.readLock().lock();
+        try {
+            LongStream.Builder locations = LongStream.builder();
+            index.forEach((key, location) -> {
+                if (slab(location).get(offset(location) + Integer.BYTES) == tag) {
+                    locations.add(location);
+                }
+            });
+            return new Records(slabs.toArray(ByteBuffer[]::new), locations.build().toArray());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countWithTag(byte tag) {
+        int[] count = {0};
+        lock.readLock().lock();
+        try {
+            index.forEach((key, location) -> {
+                if (slab(location).get(offset(location) + Integer.BYTES) == tag) {
+                    count[0]++;
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return count[0];
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLiveBytes() {
+        lock.readLock().lock();
+        try {
+            return liveBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getOffHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) slabs.size() * slabBytes + index.capacityBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private byte[] read(long location) {
+        return read(slab(location), offset(location));
+    }
+
+    private static byte[] read(ByteBuffer slab, int offset) {
+        byte[] value = new byte[slab.getInt(offset)];
+        slab.get(offset + HEADER_BYTES, value);
+        return value;
+    }
+
+    private ByteBuffer slab(long location) {
+        return slabs.get((int) (location >>> 32));
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    private static long location(int slab, int offset) {
+        return (long) slab << 32 | offset;
+    }
+
+    /**
+     * Records selected by {@link #recordsWithTag(byte)}, read without holding the store's lock.
+     */
+    public static final class Records {
+
+        private final ByteBuffer[] slabs;
+        private final long[] locations;
+
+        private Records(ByteBuffer[] slabs, long[] locations) {
+            this.slabs = slabs;
+            this.locations = locations;
+        }
+
+        public int size() {
+            return locations.length;
+        }
+
+        /**
+         * Passes a copy of each record to {@code action}.
+         */
+        public void forEach(Consumer<byte[]> action) {
+            for (long location : locations) {
+                action.accept(read(slabs[(int) (location >>> 32)], offset(location)));
+            }
+        }
+    }
+}
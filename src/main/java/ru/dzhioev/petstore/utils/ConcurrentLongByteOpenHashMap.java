@@ -0,0 +1,104 @@
+package ru.dzhioev.petstore.utils;
+
+/**
+ * Thread-safe map from primitive long keys to byte values, lock-striped over
+ * {@link LongByteOpenHashMap} segments. Suited to tracking entity IDs with a small state code.
+ */
+public class ConcurrentLongByteOpenHashMap {
+
+    private final LongByteOpenHashMap[] segments;
+    private final int shift;
+
+    public ConcurrentLongByteOpenHashMap() {
+        this(16);
+    }
+
+    public ConcurrentLongByteOpenHashMap(int expectedSize) {
+        int count = segmentCount();
+        segments = new LongByteOpenHashMap[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new LongByteOpenHashMap(expectedSize / count);
+        }
+        shift = 64 - Integer.numberOfTrailingZeros(count);
+    }
+
+    public byte put(long key, byte value, byte missingValue) {
+        LongByteOpenHashMap segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.put(key, value, missingValue);
+        }
+    }
+
+    public byte get(long key, byte missingValue) {
+        LongByteOpenHashMap segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key, missingValue);
+        }
+    }
+
+    public boolean remove(long key) {
+        LongByteOpenHashMap segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (LongByteOpenHashMap segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public int count(byte value) {
+        int[] count = {0};
+        forEach((key, current) -> {
+            if (current == value) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    public long[] keysWithValue(byte value) {
+        LongArrayBuilder keys = new LongArrayBuilder(16);
+        forEach((key, current) -> {
+            if (current == value) {
+                keys.add(key);
+            }
+        });
+        return keys.build();
+    }
+
+    public void clear() {
+        for (LongByteOpenHashMap segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Visits each segment under its lock; entries changed in other segments meanwhile may or may
+     * not be seen.
+     */
+    public void forEach(LongByteOpenHashMap.LongByteConsumer action) {
+        for (LongByteOpenHashMap segment : segments) {
+            synchronized (segment) {
+                segment.forEach(action);
+            }
+        }
+    }
+
+    private LongByteOpenHashMap segmentFor(long key) {
+        return segments[(int) ((key * 0xC2B2AE3D27D4EB4FL) >>> shift)];
+    }
+
+    private static int segmentCount() {
+        int target = Math.max(4, Runtime.getRuntime().availableProcessors() * 4);
+        return Math.min(1 << 10, Integer.highestOneBit(target - 1) << 1);
+    }
+}
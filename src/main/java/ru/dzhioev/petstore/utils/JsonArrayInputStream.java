@@ -0,0 +1,74 @@
+package ru.dzhioev.petstore.utils;
+
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Exposes the elements of an iterator as a JSON array, serializing one element at a time
+ * so that only the element currently being read is held in memory.
+ */
+public class JsonArrayInputStream extends InputStream {
+
+    private static final byte[] OPEN = {'['};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] CLOSE = {']'};
+
+    private final Iterator<?> items;
+    private byte[] chunk = OPEN;
+    private byte[] pendingItem;
+    private int position;
+    private boolean first = true;
+    private boolean finished;
+
+    public JsonArrayInputStream(Iterator<?> items) {
+        this.items = items;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int written = 0;
+        while (written < length && fill()) {
+            int count = Math.min(length - written, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, offset + written, count);
+            position += count;
+            written += count;
+        }
+        return written == 0 ? -1 : written;
+    }
+
+    private boolean fill() {
+        while (position >= chunk.length) {
+            if (pendingItem != null) {
+                chunk = pendingItem;
+                pendingItem = null;
+            } else if (finished) {
+                return false;
+            } else if (items.hasNext()) {
+                byte[] json = JsonUtils.toBytes(items.next());
+                if (first) {
+                    chunk = json;
+                    first = false;
+                } else {
+                    chunk = SEPARATOR;
+                    pendingItem = json;
+                }
+            } else {
+                chunk = CLOSE;
+                finished = true;
+            }
+            position = 0;
+        }
+        return true;
+    }
+}
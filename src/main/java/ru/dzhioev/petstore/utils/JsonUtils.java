@@ -0,0 +1,19 @@
+package ru.dzhioev.petstore.utils;
+
+import lombok.experimental.UtilityClass;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@UtilityClass
+public class JsonUtils {
+
+    private static final ObjectMapper mapper = JsonMapper.builder().build();
+
+    public static ObjectMapper mapper() {
+        return mapper;
+    }
+
+    public static byte[] toBytes(Object value) {
+        return mapper.writeValueAsBytes(value);
+    }
+}
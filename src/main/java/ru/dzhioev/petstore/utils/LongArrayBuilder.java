@@ -0,0 +1,24 @@
+package ru.dzhioev.petstore.utils;
+
+import java.util.Arrays;
+
+final class LongArrayBuilder {
+
+    private long[] values;
+    private int size;
+
+    LongArrayBuilder(int initialCapacity) {
+        values = new long[Math.max(4, initialCapacity)];
+    }
+
+    void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    long[] build() {
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
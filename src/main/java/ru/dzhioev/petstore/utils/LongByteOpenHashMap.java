@@ -0,0 +1,196 @@
+package ru.dzhioev.petstore.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from primitive long keys to byte values (linear probing, backward-shift
+ * deletion), about 13 bytes per entry at the default load factor. Meant for entity IDs and small
+ * state codes. Not thread-safe.
+ */
+public class LongByteOpenHashMap {
+
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private long[] keys;
+    private byte[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+    private boolean containsZero;
+    private byte zeroValue;
+
+    public LongByteOpenHashMap() {
+        this(16);
+    }
+
+    public LongByteOpenHashMap(int expectedSize) {
+        allocate(tableSizeFor((int) Math.min(1 << 30, Math.max(4L, (long) (expectedSize / LOAD_FACTOR) + 1))));
+    }
+
+    /**
+     * @return the previous value, or {@code missingValue} if the key was absent
+     */
+    public byte put(long key, byte value, byte missingValue) {
+        if (key == 0) {
+            byte previous = containsZero ? zeroValue : missingValue;
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                byte previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(keys.length * 2);
+        }
+        return missingValue;
+    }
+
+    public byte get(long key, byte missingValue) {
+        if (key == 0) {
+            return containsZero ? zeroValue : missingValue;
+        }
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(long key) {
+        if (key == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                shiftKeys(index);
+                size--;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    public void forEach(LongByteConsumer action) {
+        if (containsZero) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface LongByteConsumer {
+        void accept(long key, byte value);
+    }
+
+    private void shiftKeys(int position) {
+        while (true) {
+            int last = position;
+            position = (position + 1) & mask;
+            long current;
+            while (true) {
+                current = keys[position];
+                if (current == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                int home = slot(current);
+                boolean canMove = last <= position
+                        ? last >= home || home > position
+                        : last >= home && home > position;
+                if (canMove) {
+                    break;
+                }
+                position = (position + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[position];
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        byte[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int index = slot(key);
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new byte[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long key) {
+        return LongHashing.homeSlot(key, mask);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        return Math.max(2, size);
+    }
+}
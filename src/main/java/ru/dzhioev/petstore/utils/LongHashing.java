@@ -0,0 +1,16 @@
+package ru.dzhioev.petstore.utils;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Home slot of a long key in the open-addressing tables: a Fibonacci multiplicative hash with the
+ * high half folded in, masked to a power-of-two table size.
+ */
+@UtilityClass
+public class LongHashing {
+
+    public static int homeSlot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
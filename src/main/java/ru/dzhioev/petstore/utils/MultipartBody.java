@@ -0,0 +1,125 @@
+package ru.dzhioev.petstore.utils;
+
+import java.net.URLConnection;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * multipart/form-data body for java.net.http whose file parts are streamed from their source
+ * instead of being assembled in a heap array.
+ */
+public class MultipartBody {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final String boundary = "----petstore" + UUID.randomUUID().toString().replace("-", "");
+    private final List<HttpRequest.BodyPublisher> parts = new ArrayList<>();
+
+    public MultipartBody textPart(String name, String value) {
+        parts.add(HttpRequest.BodyPublishers.ofString(
+                "--" + boundary + "\r\n"
+                        + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                        + (value == null ? "" : value) + "\r\n",
+                StandardCharsets.UTF_8));
+        return this;
+    }
+
+    public MultipartBody filePart(String name, String fileName, HttpRequest.BodyPublisher content) {
+        String contentType = Optional.ofNullable(URLConnection.guessContentTypeFromName(fileName))
+                .orElse("application/octet-stream");
+        parts.add(HttpRequest.BodyPublishers.ofString(
+                "--" + boundary + "\r\n"
+                        + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                        + "Content-Type: " + contentType + "\r\n\r\n",
+                StandardCharsets.UTF_8));
+        parts.add(content);
+        parts.add(HttpRequest.BodyPublishers.ofString("\r\n", StandardCharsets.UTF_8));
+        return this;
+    }
+
+    public String contentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    public HttpRequest.BodyPublisher publisher() {
+        List<HttpRequest.BodyPublisher> all = new ArrayList<>(parts);
+        all.add(HttpRequest.BodyPublishers.ofString("--" + boundary + "--\r\n", StandardCharsets.UTF_8));
+        return HttpRequest.BodyPublishers.concat(all.toArray(HttpRequest.BodyPublisher[]::new));
+    }
+
+    public static HttpRequest.BodyPublisher ofByteBuffer(ByteBuffer content) {
+        return HttpRequest.BodyPublishers.fromPublisher(new ByteBufferPublisher(content), content.remaining());
+    }
+
+    /**
+     * Publishes read-only slices of the source buffer, so direct and memory-mapped buffers
+     * are never copied into heap arrays by this side of the client.
+     */
+    private static final class ByteBufferPublisher implements Flow.Publisher<ByteBuffer> {
+
+        private final ByteBuffer source;
+
+        private ByteBufferPublisher(ByteBuffer source) {
+            this.source = source.asReadOnlyBuffer();
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new SliceSubscription(source.duplicate(), subscriber));
+        }
+    }
+
+    private static final class SliceSubscription implements Flow.Subscription {
+
+        private final ByteBuffer buffer;
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private boolean completed;
+
+        private SliceSubscription(ByteBuffer buffer, Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.buffer = buffer;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelled = true;
+                subscriber.onError(new IllegalArgumentException("Demand must be positive: " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!cancelled && demand.get() > 0 && buffer.hasRemaining()) {
+                    int size = Math.min(CHUNK_SIZE, buffer.remaining());
+                    ByteBuffer slice = buffer.slice(buffer.position(), size);
+                    buffer.position(buffer.position() + size);
+                    demand.decrementAndGet();
+                    subscriber.onNext(slice);
+                }
+                if (!cancelled && !completed && !buffer.hasRemaining()) {
+                    completed = true;
+                    subscriber.onComplete();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
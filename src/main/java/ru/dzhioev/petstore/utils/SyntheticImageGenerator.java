@@ -0,0 +1,219 @@
+package ru.dzhioev.petstore.utils;
+
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.zip.CRC32;
+
+/**
+ * Generates valid PNG/JPEG images of an arbitrary size as a stream. A tiny real image is padded
+ * with ancillary data (a private PNG chunk or JPEG comment segments), produced block by block.
+ */
+@UtilityClass
+public class SyntheticImageGenerator {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final Map<ImageFormat, byte[]> baseImages = new EnumMap<>(ImageFormat.class);
+
+    @Getter
+    public enum ImageFormat {
+        PNG("png", "image/png", 33, 12, 1024 * 1024),
+        JPEG("jpg", "image/jpeg", 2, 4, 65533);
+
+        private final String extension;
+        private final String contentType;
+        private final int headerLength;
+        private final int segmentOverhead;
+        private final int maxSegmentData;
+
+        ImageFormat(String extension, String contentType, int headerLength, int segmentOverhead, int maxSegmentData) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.headerLength = headerLength;
+            this.segmentOverhead = segmentOverhead;
+            this.maxSegmentData = maxSegmentData;
+        }
+    }
+
+    public static InputStream generate(ImageFormat format, long sizeBytes) {
+        return new SyntheticImageInputStream(format, baseImage(format), padding(format, sizeBytes));
+    }
+
+    public static long actualSize(ImageFormat format, long sizeBytes) {
+        return baseImage(format).length + padding(format, sizeBytes);
+    }
+
+    public static Path writeTempFile(ImageFormat format, long sizeBytes) throws IOException {
+        Path file = Files.createTempFile("synthetic-image-", "." + format.getExtension());
+        try (InputStream image = generate(format, sizeBytes)) {
+            Files.copy(image, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return file;
+    }
+
+    private static long padding(ImageFormat format, long sizeBytes) {
+        long padding = sizeBytes - baseImage(format).length;
+        if (padding <= 0) {
+            return 0;
+        }
+        return Math.max(padding, format.getSegmentOverhead());
+    }
+
+    private static synchronized byte[] baseImage(ImageFormat format) {
+        return baseImages.computeIfAbsent(format, SyntheticImageGenerator::renderBaseImage);
+    }
+
+    private static byte[] renderBaseImage(ImageFormat format) {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, (x * 32) << 16 | (y * 32) << 8 | 0x80);
+            }
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (!ImageIO.write(image, format.name().toLowerCase(), out)) {
+                throw new IllegalStateException("No ImageIO writer for " + format);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot render base " + format + " image", e);
+        }
+    }
+
+    private static final class SyntheticImageInputStream extends InputStream {
+
+        private static final byte[] PNG_CHUNK_TYPE = {'p', 'a', 'D', 'd'};
+
+        private final ImageFormat format;
+        private final byte[] base;
+        private final byte[] filler = new byte[BLOCK_SIZE];
+        private final CRC32 crc = new CRC32();
+
+        private long paddingLeft;
+        private long segmentDataLeft;
+        private State state = State.HEAD;
+
+        private byte[] current;
+        private int position;
+        private int limit;
+
+        private SyntheticImageInputStream(ImageFormat format, byte[] base, long padding) {
+            this.format = format;
+            this.base = base;
+            this.paddingLeft = padding;
+            new SplittableRandom(padding).nextBytes(filler);
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return current[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int written = 0;
+            while (written < length && fill()) {
+                int count = Math.min(length - written, limit - position);
+                System.arraycopy(current, position, buffer, offset + written, count);
+                position += count;
+                written += count;
+            }
+            return written == 0 ? -1 : written;
+        }
+
+        private boolean fill() {
+            while (current == null || position >= limit) {
+                switch (state) {
+                    case HEAD -> {
+                        emit(base, 0, format.getHeaderLength());
+                        state = State.SEGMENT_HEADER;
+                    }
+                    case SEGMENT_HEADER -> {
+                        if (paddingLeft == 0) {
+                            state = State.TAIL;
+                            continue;
+                        }
+                        long segment = Math.min(paddingLeft, (long) format.getMaxSegmentData() + format.getSegmentOverhead());
+                        long rest = paddingLeft - segment;
+                        if (rest > 0 && rest < format.getSegmentOverhead()) {
+                            segment -= format.getSegmentOverhead();
+                        }
+                        paddingLeft -= segment;
+                        segmentDataLeft = segment - format.getSegmentOverhead();
+                        emitSegmentHeader((int) segmentDataLeft);
+                        state = State.SEGMENT_DATA;
+                    }
+                    case SEGMENT_DATA -> {
+                        if (segmentDataLeft == 0) {
+                            state = format == ImageFormat.PNG ? State.SEGMENT_TRAILER : State.SEGMENT_HEADER;
+                            continue;
+                        }
+                        int count = (int) Math.min(BLOCK_SIZE, segmentDataLeft);
+                        crc.update(filler, 0, count);
+                        segmentDataLeft -= count;
+                        emit(filler, 0, count);
+                    }
+                    case SEGMENT_TRAILER -> {
+                        emit(intBytes((int) crc.getValue()), 0, 4);
+                        state = State.SEGMENT_HEADER;
+                    }
+                    case TAIL -> {
+                        emit(base, format.getHeaderLength(), base.length - format.getHeaderLength());
+                        state = State.END;
+                    }
+                    case END -> {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void emitSegmentHeader(int dataLength) {
+            if (format == ImageFormat.PNG) {
+                byte[] header = new byte[8];
+                System.arraycopy(intBytes(dataLength), 0, header, 0, 4);
+                System.arraycopy(PNG_CHUNK_TYPE, 0, header, 4, 4);
+                crc.reset();
+                crc.update(PNG_CHUNK_TYPE);
+                emit(header, 0, header.length);
+            } else {
+                int segmentLength = dataLength + 2;
+                emit(new byte[]{(byte) 0xFF, (byte) 0xFE, (byte) (segmentLength >>> 8), (byte) segmentLength}, 0, 4);
+            }
+        }
+
+        private void emit(byte[] bytes, int offset, int length) {
+            current = bytes;
+            position = offset;
+            limit = offset + length;
+        }
+
+        private static byte[] intBytes(int value) {
+            return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+        }
+
+        private enum State {
+            HEAD, SEGMENT_HEADER, SEGMENT_DATA, SEGMENT_TRAILER, TAIL, END
+        }
+    }
+}
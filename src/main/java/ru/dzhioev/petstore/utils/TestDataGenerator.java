@@ -3,6 +3,10 @@ package ru.dzhioev.petstore.utils;
 import lombok.experimental.UtilityClass;
 import net.datafaker.Faker;
 import ru.dzhioev.petstore.api.models.*;
+import ru.dzhioev.petstore.api.models.compact.CompactCategory;
+import ru.dzhioev.petstore.api.models.compact.CompactPet;
+import ru.dzhioev.petstore.api.models.compact.CompactTag;
+import ru.dzhioev.petstore.config.TestConfig;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -18,8 +22,34 @@ public class TestDataGenerator {
 
     private static final long MAX_32_BIT = Integer.MAX_VALUE;
 
+    private static final TestConfig config = TestConfig.getInstance();
+    private static final long SHARD_ID_SPAN = (MAX_32_BIT - 1) / config.getShardCount();
+    private static final long SHARD_ID_FROM = 1 + config.getShardIndex() * SHARD_ID_SPAN;
+
+    private static final int POOL_SIZE = 256;
+    private static final List<CompactTag> SHARED_TAGS = List.of(new CompactTag(1, "tag1"), new CompactTag(2, "tag2"));
+    private static final List<String> SHARED_PHOTO_URLS = List.of(faker.internet().image());
+    private static final CompactCategory[] SHARED_CATEGORIES = new CompactCategory[16];
+    private static final String[] NAME_POOL = new String[POOL_SIZE];
+
+    static {
+        for (int i = 0; i < SHARED_CATEGORIES.length; i++) {
+            SHARED_CATEGORIES[i] = new CompactCategory(i + 1, faker.animal().name());
+        }
+        for (int i = 0; i < POOL_SIZE; i++) {
+            NAME_POOL[i] = faker.funnyName().name();
+        }
+    }
+
     public static long generateValidId() {
-        return ThreadLocalRandom.current().nextLong(1, MAX_32_BIT);
+        return ThreadLocalRandom.current().nextLong(SHARD_ID_FROM, SHARD_ID_FROM + SHARD_ID_SPAN);
+    }
+
+    public static long reserveIdRange(long count) {
+        if (count >= SHARD_ID_SPAN) {
+            throw new IllegalArgumentException("Cannot reserve " + count + " ids in a shard of " + SHARD_ID_SPAN);
+        }
+        return ThreadLocalRandom.current().nextLong(SHARD_ID_FROM, SHARD_ID_FROM + SHARD_ID_SPAN - count);
     }
 
     public static Pet generatePet() {
@@ -72,6 +102,19 @@ public class TestDataGenerator {
                 .build();
     }
 
+    /**
+     * Order shaped like the ones the store tests place by hand: quantity 1 and no ship date, so it
+     * serializes with both Jackson versions and reads back whatever date format the server uses.
+     */
+    public static Order generatePlacedOrder(Long petId) {
+        return Order.builder()
+                .id(generateValidId())
+                .petId(petId)
+                .quantity(1)
+                .complete(false)
+                .build();
+    }
+
     public static User generateUser() {
         return User.builder()
                 .id(generateValidId())
@@ -85,6 +128,20 @@ public class TestDataGenerator {
                 .build();
     }
 
+    /**
+     * Pet for load paths: category, tags, photo URLs and name come from small pools built once, so
+     * only the record itself is allocated per call.
+     */
+    public static CompactPet generateCompactPet(long id, Pet.PetStatus status) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new CompactPet(id,
+                SHARED_CATEGORIES[random.nextInt(SHARED_CATEGORIES.length)],
+                NAME_POOL[random.nextInt(NAME_POOL.length)],
+                SHARED_PHOTO_URLS,
+                SHARED_TAGS,
+                status);
+    }
+
     public static List<User> generateUserList(int count) {
         return faker.collection(TestDataGenerator::generateUser)
                 .len(count)
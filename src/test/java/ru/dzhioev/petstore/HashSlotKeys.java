@@ -0,0 +1,23 @@
+package ru.dzhioev.petstore;
+
+import lombok.experimental.UtilityClass;
+import ru.dzhioev.petstore.utils.LongHashing;
+
+/**
+ * Finds keys that the open-addressing tables place in a chosen home slot, to build collisions and
+ * probe sequences that wrap past the end of a table.
+ */
+@UtilityClass
+class HashSlotKeys {
+
+    static long[] withHomeSlot(int slot, int capacity, int count) {
+        long[] keys = new long[count];
+        int found = 0;
+        for (long key = 1; found < count; key++) {
+            if (LongHashing.homeSlot(key, capacity - 1) == slot) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
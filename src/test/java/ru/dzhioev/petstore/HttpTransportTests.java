@@ -0,0 +1,206 @@
+package ru.dzhioev.petstore;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.Method;
+import io.restassured.specification.RequestSpecification;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.clients.StoreClient;
+import ru.dzhioev.petstore.api.models.Order;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.specs.ApiSpecification;
+import ru.dzhioev.petstore.api.transport.ApiRequest;
+import ru.dzhioev.petstore.api.transport.HttpTransport;
+import ru.dzhioev.petstore.api.transport.HttpTransports;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.load.TransportBenchmark;
+import ru.dzhioev.petstore.profiling.HttpCallEvent;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Tag("transport")
+@DisplayName("HTTP Transport Tests")
+class HttpTransportTests {
+
+    @Nested
+    @DisplayName("Request Specification Tests")
+    class RequestSpecificationTests {
+
+        private HttpServer server;
+        private final AtomicReference<String> receivedPath = new AtomicReference<>();
+        private final AtomicReference<String> receivedApiKey = new AtomicReference<>();
+
+        @BeforeEach
+        void setUp() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                receivedPath.set(exchange.getRequestURI().getPath());
+                receivedApiKey.set(exchange.getRequestHeaders().getFirst("api_key"));
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            });
+            server.start();
+        }
+
+        @AfterEach
+        void tearDown() {
+            server.stop(0);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"restassured", "jdk"})
+        @DisplayName("Should send to the base URI and headers of the spec: {0}")
+        void shouldSendToBaseUriAndHeadersOfSpec(String transportName) {
+            RequestSpecification spec = new RequestSpecBuilder()
+                    .setBaseUri("http://localhost")
+                    .setPort(server.getAddress().getPort())
+                    .setBasePath("/v9")
+                    .addHeader("api_key", "spec-key")
+                    .build();
+            HttpTransport transport = HttpTransports.create(transportName, spec);
+
+            int status = transport.execute(ApiRequest.of(Method.GET, "/store/inventory").build(), bytes -> { })
+                    .getStatusCode();
+
+            assertAll(
+                    () -> assertThat(status).isEqualTo(200),
+                    () -> assertThat(receivedPath.get()).isEqualTo("/v9/store/inventory"),
+                    () -> assertThat(receivedApiKey.get()).isEqualTo("spec-key")
+            );
+        }
+
+        @Test
+        @DisplayName("Should reject a spec with parameters the JDK transport would drop")
+        void shouldRejectSpecWithParametersJdkTransportWouldDrop() {
+            RequestSpecification spec = new RequestSpecBuilder()
+                    .setBaseUri("http://localhost")
+                    .addQueryParam("status", "available")
+                    .build();
+
+            assertThatThrownBy(() -> HttpTransports.create("jdk", spec))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @Tag("regression")
+    @DisplayName("Petstore Transport Tests")
+    class PetstoreTransportTests {
+
+        private Pet testPet;
+        private Order testOrder;
+
+        @BeforeEach
+        void setUp() {
+            testPet = new PetClient().createPetAndGetResponse(TestDataGenerator.generatePet());
+
+            testOrder = Order.builder()
+                    .id(TestDataGenerator.generateValidId())
+                    .petId(testPet.getId())
+                    .quantity(1)
+                    .complete(false)
+                    .build();
+        }
+
+        @AfterEach
+        void tearDown() {
+            if (testOrder != null && testOrder.getId() != null) {
+                CleanupQueue.getInstance().deleteOrder(testOrder.getId());
+            }
+            if (testPet != null && testPet.getId() != null) {
+                CleanupQueue.getInstance().deletePet(testPet.getId());
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"restassured", "jdk"})
+        @DisplayName("Should place and retrieve order via transport: {0}")
+        void shouldPlaceAndRetrieveOrderViaTransport(String transportName) {
+            StoreClient client = new StoreClient(
+                    HttpTransports.create(transportName, ApiSpecification.getDefaultRequestSpec()));
+
+            client.placeOrder(testOrder)
+                    .then()
+                    .statusCode(200);
+
+            Order retrievedOrder = client.getOrderByIdAsync(testOrder.getId())
+                    .join()
+                    .then()
+                    .statusCode(200)
+                    .extract()
+                    .as(Order.class);
+
+            assertAll(
+                    () -> assertThat(retrievedOrder.getId()).isEqualTo(testOrder.getId()),
+                    () -> assertThat(retrievedOrder.getPetId()).isEqualTo(testOrder.getPetId()),
+                    () -> assertThat(retrievedOrder.getQuantity()).isEqualTo(testOrder.getQuantity())
+            );
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"restassured", "jdk"})
+        @DisplayName("Should emit JFR event for every HTTP call: {0}")
+        void shouldEmitJfrEventForEveryHttpCall(String transportName) throws IOException {
+            StoreClient client = new StoreClient(
+                    HttpTransports.create(transportName, ApiSpecification.getDefaultRequestSpec()));
+            Path dump = Files.createTempFile("http-calls", ".jfr");
+
+            try (Recording recording = new Recording()) {
+                recording.enable(HttpCallEvent.class);
+                recording.start();
+                client.placeOrder(testOrder);
+                client.getOrderById(testOrder.getId());
+                recording.stop();
+                recording.dump(dump);
+            }
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals("ru.dzhioev.petstore.HttpCall"))
+                    .filter(event -> event.getThread().getJavaThreadId() == Thread.currentThread().threadId())
+                    .toList();
+            Files.deleteIfExists(dump);
+
+            assertThat(events).hasSize(2);
+            assertAll(
+                    () -> assertThat(events.get(0).getString("method")).isEqualTo("POST"),
+                    () -> assertThat(events.get(0).getLong("bytesSent")).isPositive(),
+                    () -> assertThat(events.get(1).getString("path")).isEqualTo("/store/order/{id}"),
+                    () -> assertThat(events.get(1).getInt("statusCode")).isEqualTo(200),
+                    () -> assertThat(events.get(1).getLong("bytesReceived")).isPositive(),
+                    () -> assertThat(events).allSatisfy(event ->
+                            assertThat(event.getString("transport")).isEqualTo(transportName))
+            );
+        }
+
+        @Test
+        @Tag("load")
+        @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+        @DisplayName("Should compare transport overhead")
+        void shouldCompareTransportOverhead() {
+            TransportBenchmark benchmark = new TransportBenchmark(20, 200, 16);
+
+            List<TransportBenchmark.Result> results = benchmark.run(List.of(
+                    HttpTransports.create("restassured", ApiSpecification.getDefaultRequestSpec()),
+                    HttpTransports.create("jdk", ApiSpecification.getDefaultRequestSpec())));
+
+            assertThat(results).allSatisfy(result -> assertThat(result.getFailures()).isZero());
+        }
+    }
+}
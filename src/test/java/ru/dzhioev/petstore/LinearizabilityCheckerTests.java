@@ -0,0 +1,101 @@
+package ru.dzhioev.petstore;
+
+import ru.dzhioev.petstore.consistency.Anomaly;
+import ru.dzhioev.petstore.consistency.LinearizabilityChecker;
+import ru.dzhioev.petstore.consistency.LinearizabilityReport;
+import ru.dzhioev.petstore.consistency.Operation;
+import ru.dzhioev.petstore.consistency.OperationHistory;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Tag("consistency")
+@DisplayName("Linearizability Checker Tests")
+class LinearizabilityCheckerTests {
+
+    private static final long PET_ID = 42L;
+
+    private final LinearizabilityChecker checker = new LinearizabilityChecker();
+
+    @Test
+    @DisplayName("Should report a stale read after a completed write")
+    void shouldReportStaleReadAfterCompletedWrite() {
+        OperationHistory history = new OperationHistory(8);
+        completeNow(history, history.invoke(Operation.ADD, PET_ID, 1), 200, 0);
+        completeNow(history, history.invoke(Operation.UPDATE, PET_ID, 2), 200, 0);
+        completeNow(history, history.invoke(Operation.GET, PET_ID, 0), 200, 1);
+
+        LinearizabilityReport report = checker.check(history);
+
+        assertAll(
+                () -> assertThat(report.isLinearizable()).isFalse(),
+                () -> assertThat(report.getAnomalies()).extracting(Anomaly::getPetId).containsExactly(PET_ID)
+        );
+    }
+
+    @Test
+    @DisplayName("Should order overlapping writes either way")
+    void shouldOrderOverlappingWritesEitherWay() {
+        for (int read : new int[]{1, 2}) {
+            OperationHistory history = new OperationHistory(8);
+            int first = history.invoke(Operation.ADD, PET_ID, 1);
+            int second = history.invoke(Operation.ADD, PET_ID, 2);
+            completeNow(history, first, 200, 0);
+            completeNow(history, second, 200, 0);
+            completeNow(history, history.invoke(Operation.GET, PET_ID, 0), 200, read);
+
+            LinearizabilityReport report = checker.check(history);
+
+            assertThat(report.isLinearizable()).as("read of %d after overlapping writes: %s", read, report.summary())
+                    .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should let a write without a response stay unlinearized or take effect")
+    void shouldLetWriteWithoutResponseStayUnlinearizedOrTakeEffect() {
+        for (int read : new int[]{1, 2}) {
+            OperationHistory history = new OperationHistory(8);
+            completeNow(history, history.invoke(Operation.ADD, PET_ID, 1), 200, 0);
+            history.invoke(Operation.UPDATE, PET_ID, 2);
+            completeNow(history, history.invoke(Operation.GET, PET_ID, 0), 200, read);
+
+            LinearizabilityReport report = checker.check(history);
+
+            assertThat(report.isLinearizable()).as("read of %d after an unknown update: %s", read, report.summary())
+                    .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should shrink a violation to the operations that reproduce it")
+    void shouldShrinkViolationToMinimalAnomaly() {
+        OperationHistory history = new OperationHistory(8);
+        completeNow(history, history.invoke(Operation.ADD, PET_ID, 1), 200, 0);
+        completeNow(history, history.invoke(Operation.GET, PET_ID, 0), 200, 1);
+        completeNow(history, history.invoke(Operation.UPDATE, PET_ID, 2), 200, 0);
+        completeNow(history, history.invoke(Operation.GET, PET_ID, 0), 200, 2);
+        completeNow(history, history.invoke(Operation.GET, PET_ID, 0), 404, 0);
+
+        LinearizabilityReport report = checker.check(history);
+
+        assertThat(report.getAnomalies()).hasSize(1);
+        assertThat(report.getAnomalies().getFirst().getOperations()).satisfiesExactly(
+                add -> assertThat(add).startsWith("ADD").contains("-> 200"),
+                read -> assertThat(read).startsWith("GET").contains("-> 404")
+        );
+    }
+
+    /**
+     * Completes {@code slot} now and waits for the clock to move on, so the next invocation starts
+     * strictly after this completion.
+     */
+    private static void completeNow(OperationHistory history, int slot, int status, int value) {
+        long now = System.nanoTime();
+        history.complete(slot, now, status, value);
+        while (System.nanoTime() == now) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ru.dzhioev.petstore;
+
+import ru.dzhioev.petstore.utils.ConcurrentLongByteOpenHashMap;
+import ru.dzhioev.petstore.utils.LongByteOpenHashMap;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Tag("utils")
+@DisplayName("Long Byte Open Hash Map Tests")
+class LongByteOpenHashMapTests {
+
+    private static final byte MISSING = -1;
+
+    @Test
+    @DisplayName("Should keep colliding keys reachable when a delete wraps around the table")
+    void shouldKeepCollidingKeysReachableWhenDeleteWrapsAround() {
+        LongByteOpenHashMap map = new LongByteOpenHashMap(4);
+        long[] lastSlot = HashSlotKeys.withHomeSlot(7, 8, 3);
+        long firstSlot = HashSlotKeys.withHomeSlot(0, 8, 1)[0];
+
+        map.put(lastSlot[0], (byte) 1, MISSING);
+        map.put(lastSlot[1], (byte) 2, MISSING);
+        map.put(firstSlot, (byte) 3, MISSING);
+        map.put(lastSlot[2], (byte) 4, MISSING);
+
+        assertThat(map.remove(lastSlot[0])).isTrue();
+        assertThat(map.remove(lastSlot[0])).isFalse();
+
+        assertAll(
+                () -> assertThat(map.size()).isEqualTo(3),
+                () -> assertThat(map.containsKey(lastSlot[0])).isFalse(),
+                () -> assertThat(map.get(lastSlot[1], MISSING)).isEqualTo((byte) 2),
+                () -> assertThat(map.get(firstSlot, MISSING)).isEqualTo((byte) 3),
+                () -> assertThat(map.get(lastSlot[2], MISSING)).isEqualTo((byte) 4)
+        );
+    }
+
+    @Test
+    @DisplayName("Should match a HashMap through rehashes, overwrites and deletes")
+    void shouldMatchHashMapThroughRehashesOverwritesAndDeletes() {
+        LongByteOpenHashMap map = new LongByteOpenHashMap(4);
+        Map<Long, Byte> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(5_000) - 2_500;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                byte value = (byte) random.nextInt(100);
+                Byte previous = expected.put(key, value);
+                assertThat(map.put(key, value, MISSING)).isEqualTo(previous == null ? MISSING : previous);
+            }
+        }
+
+        Map<Long, Byte> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should store the zero key apart from empty slots")
+    void shouldStoreZeroKeyApartFromEmptySlots() {
+        LongByteOpenHashMap map = new LongByteOpenHashMap();
+
+        assertThat(map.get(0, MISSING)).isEqualTo(MISSING);
+        assertThat(map.put(0, (byte) 5, MISSING)).isEqualTo(MISSING);
+        assertThat(map.put(0, (byte) 6, MISSING)).isEqualTo((byte) 5);
+        map.put(1, (byte) 7, MISSING);
+
+        Map<Long, Byte> entries = new HashMap<>();
+        map.forEach(entries::put);
+        assertThat(entries).containsExactlyInAnyOrderEntriesOf(Map.of(0L, (byte) 6, 1L, (byte) 7));
+        assertThat(map.size()).isEqualTo(2);
+
+        assertThat(map.remove(0)).isTrue();
+        assertAll(
+                () -> assertThat(map.containsKey(0)).isFalse(),
+                () -> assertThat(map.remove(0)).isFalse(),
+                () -> assertThat(map.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should keep every entry under concurrent puts and removes")
+    void shouldKeepEveryEntryUnderConcurrentPutsAndRemoves() throws InterruptedException {
+        ConcurrentLongByteOpenHashMap map = new ConcurrentLongByteOpenHashMap();
+        int writers = 8;
+        int perWriter = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            for (int writer = 0; writer < writers; writer++) {
+                long base = (long) writer * perWriter;
+                executor.submit(() -> {
+                    start.await();
+                    for (long key = base; key < base + perWriter; key++) {
+                        map.put(key, (byte) 1, MISSING);
+                        if (key % 2 == 1) {
+                            map.remove(key);
+                        } else {
+                            map.put(key, (byte) 2, MISSING);
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        long[] kept = map.keysWithValue((byte) 2);
+        assertAll(
+                () -> assertThat(map.size()).isEqualTo(writers * perWriter / 2),
+                () -> assertThat(map.count((byte) 1)).isZero(),
+                () -> assertThat(kept).hasSize(writers * perWriter / 2),
+                () -> assertThat(Arrays.stream(kept).allMatch(key -> key % 2 == 0)).isTrue(),
+                () -> assertThat(map.get(0, MISSING)).isEqualTo((byte) 2),
+                () -> assertThat(map.get(1, MISSING)).isEqualTo(MISSING)
+        );
+    }
+}
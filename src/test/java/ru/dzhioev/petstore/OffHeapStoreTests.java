@@ -0,0 +1,124 @@
+package ru.dzhioev.petstore;
+
+import ru.dzhioev.petstore.standin.OffHeapStore;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Tag("standin")
+@DisplayName("Off-Heap Store Tests")
+class OffHeapStoreTests {
+
+    private static final byte TAG = 1;
+    /** Capacity of the index a new store starts with. */
+    private static final int INDEX_CAPACITY = 1024;
+
+    @Test
+    @DisplayName("Should round-trip records through put, overwrite and remove")
+    void shouldRoundTripRecordsThroughPutOverwriteAndRemove() {
+        OffHeapStore store = new OffHeapStore(4096);
+
+        store.put(7, TAG, record("first"));
+        store.put(0, TAG, record("zero"));
+        long liveBytes = store.getLiveBytes();
+        store.put(7, (byte) 2, record("second"));
+
+        assertAll(
+                () -> assertThat(store.get(7)).isEqualTo(record("second")),
+                () -> assertThat(store.get(0)).isEqualTo(record("zero")),
+                () -> assertThat(store.size()).isEqualTo(2),
+                () -> assertThat(store.getLiveBytes()).isEqualTo(liveBytes + 1),
+                () -> assertThat(store.countWithTag(TAG)).isEqualTo(1)
+        );
+
+        assertThat(store.remove(7)).isTrue();
+        assertThat(store.remove(0)).isTrue();
+        assertAll(
+                () -> assertThat(store.get(7)).isNull(),
+                () -> assertThat(store.get(0)).isNull(),
+                () -> assertThat(store.remove(7)).isFalse(),
+                () -> assertThat(store.size()).isZero(),
+                () -> assertThat(store.getLiveBytes()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("Should keep colliding keys reachable when a removal wraps around the index")
+    void shouldKeepCollidingKeysReachableWhenRemovalWrapsAround() {
+        OffHeapStore store = new OffHeapStore(4096);
+        long[] lastSlot = HashSlotKeys.withHomeSlot(INDEX_CAPACITY - 1, INDEX_CAPACITY, 3);
+        long firstSlot = HashSlotKeys.withHomeSlot(0, INDEX_CAPACITY, 1)[0];
+
+        store.put(lastSlot[0], TAG, record("a"));
+        store.put(lastSlot[1], TAG, record("b"));
+        store.put(firstSlot, TAG, record("c"));
+        store.put(lastSlot[2], TAG, record("d"));
+
+        assertThat(store.remove(lastSlot[0])).isTrue();
+
+        assertAll(
+                () -> assertThat(store.get(lastSlot[0])).isNull(),
+                () -> assertThat(store.get(lastSlot[1])).isEqualTo(record("b")),
+                () -> assertThat(store.get(firstSlot)).isEqualTo(record("c")),
+                () -> assertThat(store.get(lastSlot[2])).isEqualTo(record("d")),
+                () -> assertThat(store.size()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("Should find every record after the index rehashes")
+    void shouldFindEveryRecordAfterIndexRehashes() {
+        OffHeapStore store = new OffHeapStore(4096);
+        int count = INDEX_CAPACITY * 4;
+
+        for (long key = 1; key <= count; key++) {
+            store.put(key, (byte) (key % 2), record("pet-" + key));
+        }
+        for (long key = 2; key <= count; key += 2) {
+            store.remove(key);
+        }
+
+        assertThat(store.size()).isEqualTo(count / 2);
+        assertThat(store.countWithTag(TAG)).isEqualTo(count / 2);
+        for (long key = 1; key <= count; key++) {
+            assertThat(store.get(key)).isEqualTo(key % 2 == 1 ? record("pet-" + key) : null);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read a tag snapshot as it was when taken")
+    void shouldReadTagSnapshotAsItWasWhenTaken() {
+        OffHeapStore store = new OffHeapStore(4096);
+        store.put(1, TAG, record("one"));
+        store.put(2, TAG, record("two"));
+        store.put(3, (byte) 2, record("three"));
+
+        OffHeapStore.Records snapshot = store.recordsWithTag(TAG);
+        store.put(1, TAG, record("one, updated"));
+        store.remove(2);
+
+        List<String> read = new ArrayList<>();
+        snapshot.forEach(value -> read.add(new String(value, StandardCharsets.UTF_8)));
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(read).containsExactlyInAnyOrder("one", "two");
+    }
+
+    @Test
+    @DisplayName("Should reject a record larger than a slab")
+    void shouldRejectRecordLargerThanSlab() {
+        OffHeapStore store = new OffHeapStore(64);
+
+        assertThatThrownBy(() -> store.put(1, TAG, new byte[64]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] record(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
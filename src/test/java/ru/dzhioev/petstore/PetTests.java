@@ -2,19 +2,47 @@ package ru.dzhioev.petstore;
 
 import ru.dzhioev.petstore.api.clients.PetClient;
 import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.schemas.ResponseSchema;
+import ru.dzhioev.petstore.api.transport.LightResponse;
+import ru.dzhioev.petstore.api.transport.LightResponseMode;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.consistency.ConsistencyWorkload;
+import ru.dzhioev.petstore.consistency.LinearizabilityReport;
+import ru.dzhioev.petstore.extensions.Fixture;
+import ru.dzhioev.petstore.load.ConcurrentUploadBenchmark;
+import ru.dzhioev.petstore.load.FindByStatusScalingBenchmark;
+import ru.dzhioev.petstore.load.PetSeeder;
+import ru.dzhioev.petstore.load.ScalingPoint;
+import ru.dzhioev.petstore.load.SeedCheckpoint;
+import ru.dzhioev.petstore.load.SeedingConfig;
+import ru.dzhioev.petstore.load.SeedingPipeline;
+import ru.dzhioev.petstore.load.SeedingResult;
+import ru.dzhioev.petstore.load.UploadCurvePoint;
+import ru.dzhioev.petstore.load.UploadMetrics;
+import ru.dzhioev.petstore.utils.SyntheticImageGenerator;
+import ru.dzhioev.petstore.utils.SyntheticImageGenerator.ImageFormat;
 import ru.dzhioev.petstore.utils.TestDataGenerator;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.Channels;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.CRC32C;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static ru.dzhioev.petstore.api.schemas.SchemaValidator.matchesSchema;
 
 @Tag("pet")
 @Tag("regression")
@@ -27,8 +55,7 @@ class PetTests {
 
     @BeforeAll
     static void setUpClass() throws IOException {
-        Path tempFile = Files.createTempFile("test-pet-", ".jpg");
-        Files.write(tempFile, "fake image content".getBytes());
+        Path tempFile = SyntheticImageGenerator.writeTempFile(ImageFormat.JPEG, 4 * 1024);
         testImageFile = tempFile.toFile();
         testImageFile.deleteOnExit();
     }
@@ -61,6 +88,7 @@ class PetTests {
                 Pet createdPet = petClient.addPet(pet)
                         .then()
                         .statusCode(200)
+                        .body(matchesSchema(ResponseSchema.PET))
                         .extract()
                         .as(Pet.class);
 
@@ -173,7 +201,7 @@ class PetTests {
         @AfterEach
         void tearDown() {
             if (existingPet != null && existingPet.getId() != null) {
-                petClient.deletePet(existingPet.getId());
+                CleanupQueue.getInstance().deletePet(existingPet.getId());
             }
         }
 
@@ -277,28 +305,10 @@ class PetTests {
         private Pet pendingPet;
 
         @BeforeEach
-        void setUp() {
-            availablePet = TestDataGenerator.generatePetWithStatus(Pet.PetStatus.AVAILABLE);
-            availablePet = petClient.addPet(availablePet)
-                    .then()
-                    .extract()
-                    .as(Pet.class);
-
-            pendingPet = TestDataGenerator.generatePetWithStatus(Pet.PetStatus.PENDING);
-            pendingPet = petClient.addPet(pendingPet)
-                    .then()
-                    .extract()
-                    .as(Pet.class);
-        }
-
-        @AfterEach
-        void tearDown() {
-            if (availablePet != null && availablePet.getId() != null) {
-                petClient.deletePet(availablePet.getId());
-            }
-            if (pendingPet != null && pendingPet.getId() != null) {
-                petClient.deletePet(pendingPet.getId());
-            }
+        void setUp(@Fixture(status = Pet.PetStatus.AVAILABLE) Pet available,
+                   @Fixture(status = Pet.PetStatus.PENDING) Pet pending) {
+            availablePet = available;
+            pendingPet = pending;
         }
 
         @Nested
@@ -335,20 +345,33 @@ class PetTests {
 
             @Test
             @DisplayName("Should find pets by sold status")
-            void shouldFindPetsBySoldStatus() {
-                Pet soldPet = TestDataGenerator.generatePetWithStatus(Pet.PetStatus.SOLD);
-                soldPet = petClient.addPet(soldPet)
-                        .then()
-                        .extract()
-                        .as(Pet.class);
-
+            void shouldFindPetsBySoldStatus(@Fixture(status = Pet.PetStatus.SOLD) Pet soldPet) {
                 List<Pet> pets = petClient.getPetsByStatus(Pet.PetStatus.SOLD);
 
                 assertThat(pets).isNotEmpty();
-                Pet finalSoldPet = soldPet;
-                assertThat(pets).anyMatch(p -> p.getId().equals(finalSoldPet.getId()));
+                assertThat(pets).anyMatch(p -> p.getId().equals(soldPet.getId()));
+            }
 
-                petClient.deletePet(finalSoldPet.getId());
+            @Test
+            @DisplayName("Should stream find by status body without buffering it")
+            void shouldStreamFindByStatusBodyWithoutBufferingIt() {
+                ByteArrayOutputStream sink = new ByteArrayOutputStream();
+                LightResponseMode mode = LightResponseMode.builder()
+                        .header("Content-Type")
+                        .checksum(true)
+                        .sink(Channels.newChannel(sink))
+                        .build();
+
+                LightResponse response = petClient.findPetsByStatus(mode, Pet.PetStatus.AVAILABLE);
+
+                CRC32C expectedChecksum = new CRC32C();
+                expectedChecksum.update(sink.toByteArray());
+                assertAll(
+                        () -> assertThat(response.getStatusCode()).isEqualTo(200),
+                        () -> assertThat(response.header("Content-Type")).contains("application/json"),
+                        () -> assertThat(response.getBodyBytes()).isPositive().isEqualTo(sink.size()),
+                        () -> assertThat(response.getChecksum()).isEqualTo(expectedChecksum.getValue())
+                );
             }
         }
 
@@ -395,7 +418,7 @@ class PetTests {
         @AfterEach
         void tearDown() {
             if (petWithTags != null && petWithTags.getId() != null) {
-                petClient.deletePet(petWithTags.getId());
+                CleanupQueue.getInstance().deletePet(petWithTags.getId());
             }
         }
 
@@ -441,19 +464,8 @@ class PetTests {
         private Pet existingPet;
 
         @BeforeEach
-        void setUp() {
-            existingPet = TestDataGenerator.generatePet();
-            existingPet = petClient.addPet(existingPet)
-                    .then()
-                    .extract()
-                    .as(Pet.class);
-        }
-
-        @AfterEach
-        void tearDown() {
-            if (existingPet != null && existingPet.getId() != null) {
-                petClient.deletePet(existingPet.getId());
-            }
+        void setUp(@Fixture Pet pet) {
+            existingPet = pet;
         }
 
         @Nested
@@ -466,6 +478,7 @@ class PetTests {
                 Pet retrievedPet = petClient.getPetById(existingPet.getId())
                         .then()
                         .statusCode(200)
+                        .body(matchesSchema(ResponseSchema.PET))
                         .extract()
                         .as(Pet.class);
 
@@ -520,7 +533,7 @@ class PetTests {
         @AfterEach
         void tearDown() {
             if (existingPet != null && existingPet.getId() != null) {
-                petClient.deletePet(existingPet.getId());
+                CleanupQueue.getInstance().deletePet(existingPet.getId());
             }
         }
 
@@ -547,7 +560,7 @@ class PetTests {
             @Test
             @DisplayName("Should update pet status with form data")
             void shouldUpdatePetStatusWithFormData() {
-                petClient.updatePetWithForm(existingPet.getId(), null, Pet.PetStatus.SOLD.name())
+                petClient.updatePetWithForm(existingPet.getId(), null, Pet.PetStatus.SOLD.getValue())
                         .then()
                         .statusCode(200);
 
@@ -563,7 +576,7 @@ class PetTests {
             @Test
             @DisplayName("Should update both name and status with form data")
             void shouldUpdateBothNameAndStatusWithFormData() {
-                petClient.updatePetWithForm(existingPet.getId(), "Form Updated", Pet.PetStatus.PENDING.name())
+                petClient.updatePetWithForm(existingPet.getId(), "Form Updated", Pet.PetStatus.PENDING.getValue())
                         .then()
                         .statusCode(200);
 
@@ -623,7 +636,7 @@ class PetTests {
         @AfterEach
         void tearDown() {
             if (existingPet != null && existingPet.getId() != null) {
-                petClient.deletePet(existingPet.getId());
+                CleanupQueue.getInstance().deletePet(existingPet.getId());
             }
         }
 
@@ -646,6 +659,35 @@ class PetTests {
                         .then()
                         .statusCode(200);
             }
+
+            @Test
+            @DisplayName("Should upload image streamed from path")
+            void shouldUploadImageStreamedFromPath() {
+                UploadMetrics metrics = new UploadMetrics();
+                new PetClient(petClient.getTransport(), metrics)
+                        .uploadImage(existingPet.getId(), testImageFile.toPath(), "Mapped upload")
+                        .then()
+                        .statusCode(200);
+
+                assertAll(
+                        () -> assertThat(metrics.getUploadCount()).isEqualTo(1),
+                        () -> assertThat(metrics.getTotalBytes()).isEqualTo(testImageFile.length())
+                );
+            }
+
+            @Test
+            @DisplayName("Should upload image streamed from input stream")
+            void shouldUploadImageStreamedFromInputStream() throws IOException {
+                UploadMetrics metrics = new UploadMetrics();
+                try (InputStream image = Files.newInputStream(testImageFile.toPath())) {
+                    new PetClient(petClient.getTransport(), metrics)
+                            .uploadImage(existingPet.getId(), image, testImageFile.getName(), "Stream upload")
+                            .then()
+                            .statusCode(200);
+                }
+
+                assertThat(metrics.getTotalBytes()).isEqualTo(testImageFile.length());
+            }
         }
 
         @Nested
@@ -665,6 +707,164 @@ class PetTests {
         }
     }
 
+    @Nested
+    @Tag("load")
+    @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+    @DisplayName("Concurrent Upload Throughput Tests")
+    class ConcurrentUploadThroughputTests {
+
+        private Pet existingPet;
+
+        @BeforeEach
+        void setUp() {
+            existingPet = TestDataGenerator.generatePet();
+            existingPet = petClient.addPet(existingPet)
+                    .then()
+                    .extract()
+                    .as(Pet.class);
+        }
+
+        @AfterEach
+        void tearDown() {
+            if (existingPet != null && existingPet.getId() != null) {
+                CleanupQueue.getInstance().deletePet(existingPet.getId());
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(ImageFormat.class)
+        @DisplayName("Should upload synthetic images concurrently: {0}")
+        void shouldUploadSyntheticImagesConcurrently(ImageFormat format) {
+            TestConfig config = TestConfig.getInstance();
+            ConcurrentUploadBenchmark benchmark = new ConcurrentUploadBenchmark(petClient, format,
+                    config.getUploadBenchmarkUploads(), config.getUploadBenchmarkConcurrency());
+
+            List<UploadCurvePoint> curve = benchmark.run(existingPet.getId(), config.getUploadBenchmarkSizes());
+
+            assertThat(curve).hasSize(config.getUploadBenchmarkSizes().size());
+            assertThat(curve).allSatisfy(point -> assertThat(point.getFailures()).isZero());
+        }
+    }
+
+    @Nested
+    @Tag("load")
+    @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+    @DisplayName("Find By Status Scaling Tests")
+    class FindByStatusScalingTests {
+
+        @Test
+        @DisplayName("Should measure findByStatus latency across dataset sizes")
+        void shouldMeasureFindByStatusScaling() {
+            TestConfig config = TestConfig.getInstance();
+            FindByStatusScalingBenchmark benchmark = FindByStatusScalingBenchmark.fromConfig(petClient, config);
+
+            List<ScalingPoint> curve = benchmark.run(Pet.PetStatus.AVAILABLE);
+
+            assertThat(curve).hasSize(config.getScalingPopulations().size());
+            assertThat(curve).allSatisfy(point -> assertThat(point.getFailures()).isZero());
+            assertThat(FindByStatusScalingBenchmark.fitLatency(curve).getExponent()).isNotNaN();
+        }
+    }
+
+    @Nested
+    @Tag("load")
+    @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+    @DisplayName("Seeding Pipeline Tests")
+    class SeedingPipelineTests {
+
+        @TempDir
+        Path checkpointDir;
+
+        @Test
+        @DisplayName("Should seed pets and resume from checkpoint")
+        void shouldSeedPetsAndResumeFromCheckpoint() {
+            Path checkpointFile = checkpointDir.resolve("seed.checkpoint");
+            PetSeeder seeder = new PetSeeder(petClient, SeedingConfig.fromConfig(TestConfig.getInstance()).toBuilder()
+                    .checkpointFile(checkpointFile)
+                    .checkpointInterval(50)
+                    .build());
+            try {
+                assertThat(seeder.seed(500)).isZero();
+                assertThat(SeedCheckpoint.load(checkpointFile).getCompleted()).isEqualTo(500);
+
+                SeedingResult resumed = new SeedingPipeline(petClient, SeedingConfig.fromConfig(TestConfig.getInstance())
+                        .toBuilder()
+                        .checkpointFile(checkpointFile)
+                        .build())
+                        .seed(500);
+
+                assertThat(resumed.getResumedFrom()).isEqualTo(500);
+                assertThat(resumed.getCreatedCount()).isZero();
+                assertThat(resumed.isComplete()).isTrue();
+            } finally {
+                seeder.deleteSeeded();
+            }
+        }
+    }
+
+    @Nested
+    @Tag("load")
+    @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+    @DisplayName("Linearizability Tests")
+    class LinearizabilityTests {
+
+        @Test
+        @DisplayName("Should keep concurrent pet writes linearizable per pet ID")
+        void shouldKeepConcurrentPetWritesLinearizable() {
+            LinearizabilityReport report = ConsistencyWorkload.fromConfig(TestConfig.getInstance()).run();
+
+            assertThat(report.getOperations()).isPositive();
+            assertThat(report.isLinearizable())
+                    .as(report.summary())
+                    .isTrue();
+        }
+    }
+
+    @Nested
+    @Tag("load")
+    @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+    @EnabledIfSystemProperty(named = "standin.enabled", matches = "true")
+    @DisplayName("Local Petstore Heap Tests")
+    class LocalPetstoreHeapTests {
+
+        @Test
+        @DisplayName("Should keep heap after GC flat while the stand-in grows")
+        void shouldKeepHeapAfterGcFlatWhileStandInGrows() {
+            TestConfig config = TestConfig.getInstance();
+            List<Long> populations = config.getScalingPopulations();
+            long maxBytesPerPet = Long.parseLong(config.property("standin.max.heap.bytes.per.pet", "128"));
+            PetSeeder seeder = new PetSeeder(petClient, SeedingConfig.fromConfig(config).toBuilder()
+                    .checkpointFile(null)
+                    .build());
+            long[] heap = new long[populations.size()];
+
+            try {
+                for (int i = 0; i < populations.size(); i++) {
+                    seeder.seed(populations.get(i) - seeder.getSeededCount());
+                    heap[i] = heapAfterGc();
+                }
+            } finally {
+                seeder.deleteSeeded();
+            }
+
+            long pets = populations.getLast() - populations.getFirst();
+            long growth = heap[heap.length - 1] - heap[0];
+            assertThat(seeder.getDeleteFailedCount()).isZero();
+            assertThat(growth / Math.max(1, pets))
+                    .as("heap after GC grew by %d bytes over %d seeded pets", growth, pets)
+                    .isLessThan(maxBytesPerPet);
+        }
+
+        /**
+         * Heap in use right after a full collection; the stand-in runs in this JVM when started by
+         * {@code LocalPetstoreExtension}.
+         */
+        private long heapAfterGc() {
+            System.gc();
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /pet/{petId} Tests")
     class DeletePetTests {
@@ -0,0 +1,70 @@
+package ru.dzhioev.petstore;
+
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.schemas.ResponseSchema;
+import ru.dzhioev.petstore.api.schemas.SchemaValidator;
+import ru.dzhioev.petstore.load.SchemaValidationBenchmark;
+import ru.dzhioev.petstore.utils.JsonUtils;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Tag("schema")
+@DisplayName("Schema Validator Tests")
+class SchemaValidatorTests {
+
+    @Test
+    @DisplayName("Should reject pet body without required fields")
+    void shouldRejectPetBodyWithoutRequiredFields() {
+        String validBody = JsonUtils.mapper().writeValueAsString(TestDataGenerator.generatePet());
+
+        assertAll(
+                () -> assertThat(SchemaValidator.isValid(ResponseSchema.PET, validBody)).isTrue(),
+                () -> assertThat(SchemaValidator.isValid(ResponseSchema.PET, "{\"name\":\"No Photo Pet\"}")).isFalse(),
+                () -> assertThat(SchemaValidator.isValid(ResponseSchema.PET, "not json")).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject pet status outside the documented values")
+    void shouldRejectPetStatusOutsideDocumentedValues() {
+        Pet pet = TestDataGenerator.generatePetWithStatus(Pet.PetStatus.PENDING);
+        String validBody = JsonUtils.mapper().writeValueAsString(pet);
+        String invalidBody = validBody.replace("\"pending\"", "\"lost\"");
+
+        assertAll(
+                () -> assertThat(SchemaValidator.isValid(ResponseSchema.PET, validBody)).isTrue(),
+                () -> assertThat(invalidBody).contains("\"lost\""),
+                () -> assertThat(SchemaValidator.isValid(ResponseSchema.PET, invalidBody)).isFalse()
+        );
+    }
+
+    @Test
+    @Tag("load")
+    @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+    @DisplayName("Should measure schema validation overhead by response size")
+    void shouldMeasureSchemaValidationOverheadByResponseSize() {
+        List<String> bodies = Stream.of(1, 10, 100, 1000)
+                .map(photoCount -> {
+                    Pet pet = TestDataGenerator.generatePet();
+                    pet.setPhotoUrls(Collections.nCopies(photoCount, "http://example.com/photo.jpg"));
+                    return JsonUtils.mapper().writeValueAsString(pet);
+                })
+                .toList();
+
+        List<SchemaValidationBenchmark.Result> results =
+                new SchemaValidationBenchmark(2_000, 10_000).run(ResponseSchema.PET, bodies);
+
+        assertThat(results).allSatisfy(result -> assertAll(
+                () -> assertThat(result.isValid()).isTrue(),
+                () -> assertThat(result.getCachedMicros()).isLessThan(result.getUncachedMicros())
+        ));
+    }
+}
@@ -4,8 +4,18 @@ import ru.dzhioev.petstore.api.clients.PetClient;
 import ru.dzhioev.petstore.api.clients.StoreClient;
 import ru.dzhioev.petstore.api.models.Order;
 import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.schemas.ResponseSchema;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.extensions.Fixture;
+import ru.dzhioev.petstore.load.OrderContentionResult;
+import ru.dzhioev.petstore.load.OrderContentionStress;
+import ru.dzhioev.petstore.load.SoakConfig;
+import ru.dzhioev.petstore.load.SoakReport;
+import ru.dzhioev.petstore.load.SoakRunner;
 import ru.dzhioev.petstore.utils.TestDataGenerator;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -14,6 +24,7 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static ru.dzhioev.petstore.api.schemas.SchemaValidator.matchesSchema;
 
 @Tag("store")
 @Tag("regression")
@@ -73,10 +84,10 @@ class StoreTests {
         @AfterEach
         void tearDown() {
             if (testOrder != null && testOrder.getId() != null) {
-                storeClient.deleteOrder(testOrder.getId());
+                CleanupQueue.getInstance().deleteOrder(testOrder.getId());
             }
             if (testPet != null && testPet.getId() != null) {
-                petClient.deletePet(testPet.getId());
+                CleanupQueue.getInstance().deletePet(testPet.getId());
             }
         }
 
@@ -207,32 +218,11 @@ class StoreTests {
     @DisplayName("GET /store/order/{orderId} Tests")
     class GetOrderByIdTests {
 
-        private Pet testPet;
         private Order testOrder;
 
         @BeforeEach
-        void setUp() {
-            testPet = TestDataGenerator.generatePet();
-            testPet = petClient.createPetAndGetResponse(testPet);
-
-            testOrder = Order.builder()
-                    .id(TestDataGenerator.generateValidId())
-                    .petId(testPet.getId())
-                    .quantity(1)
-                    .complete(false)
-                    .build();
-
-            testOrder = storeClient.placeOrderAndGetResponse(testOrder);
-        }
-
-        @AfterEach
-        void tearDown() {
-            if (testOrder != null && testOrder.getId() != null) {
-                storeClient.deleteOrder(testOrder.getId());
-            }
-            if (testPet != null && testPet.getId() != null) {
-                petClient.deletePet(testPet.getId());
-            }
+        void setUp(@Fixture Order order) {
+            testOrder = order;
         }
 
         @Nested
@@ -245,6 +235,7 @@ class StoreTests {
                 Order retrievedOrder = storeClient.getOrderById(testOrder.getId())
                         .then()
                         .statusCode(200)
+                        .body(matchesSchema(ResponseSchema.ORDER))
                         .extract()
                         .as(Order.class);
 
@@ -347,7 +338,7 @@ class StoreTests {
         @AfterEach
         void tearDown() {
             if (testPet != null && testPet.getId() != null) {
-                petClient.deletePet(testPet.getId());
+                CleanupQueue.getInstance().deletePet(testPet.getId());
             }
         }
 
@@ -456,7 +447,7 @@ class StoreTests {
         @AfterEach
         void tearDown() {
             if (testPet != null && testPet.getId() != null) {
-                petClient.deletePet(testPet.getId());
+                CleanupQueue.getInstance().deletePet(testPet.getId());
             }
         }
 
@@ -505,4 +496,56 @@ class StoreTests {
             storeClient.deleteOrder(testOrder.getId());
         }
     }
+
+    @Nested
+    @Tag("load")
+    @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+    @DisplayName("Order Contention Tests")
+    class OrderContentionTests {
+
+        private Pet hotPet;
+
+        @BeforeEach
+        void setUp() {
+            hotPet = petClient.createPetAndGetResponse(TestDataGenerator.generatePet());
+        }
+
+        @AfterEach
+        void tearDown() {
+            if (hotPet != null && hotPet.getId() != null) {
+                CleanupQueue.getInstance().deletePet(hotPet.getId());
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep orders consistent when placed concurrently for one pet")
+        void shouldKeepOrdersConsistentWhenPlacedConcurrentlyForOnePet() {
+            OrderContentionResult result = OrderContentionStress
+                    .fromConfig(storeClient, petClient, TestConfig.getInstance())
+                    .run(hotPet);
+
+            assertThat(result.getPlaced()).isPositive();
+            assertThat(result.getInconsistencies())
+                    .as(result.summary())
+                    .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Soak Tests")
+    @Tag("soak")
+    @EnabledIfSystemProperty(named = "soak.enabled", matches = "true")
+    class SoakTests {
+
+        @Test
+        @DisplayName("Should keep latency, error rate and client memory stable over the soak run")
+        void shouldKeepLatencyErrorRateAndClientMemoryStable() {
+            SoakReport report = new SoakRunner(SoakConfig.fromConfig(TestConfig.getInstance())).run();
+
+            assertThat(report.getComparedWindows()).isPositive();
+            assertThat(report.getFindings())
+                    .as(report.summary())
+                    .isEmpty();
+        }
+    }
 }
\ No newline at end of file
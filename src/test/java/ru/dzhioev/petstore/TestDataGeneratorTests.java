@@ -0,0 +1,49 @@
+package ru.dzhioev.petstore;
+
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.models.compact.CompactPet;
+import ru.dzhioev.petstore.load.GeneratorAllocationBenchmark;
+import ru.dzhioev.petstore.utils.JsonUtils;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Tag("utils")
+@DisplayName("Test Data Generator Tests")
+class TestDataGeneratorTests {
+
+    @Test
+    @DisplayName("Should serialize compact pet like the regular model")
+    void shouldSerializeCompactPetLikeRegularModel() {
+        CompactPet compact = TestDataGenerator.generateCompactPet(42L, Pet.PetStatus.SOLD);
+
+        Pet pet = JsonUtils.mapper().readValue(JsonUtils.toBytes(compact), Pet.class);
+
+        assertAll(
+                () -> assertThat(pet.getId()).isEqualTo(42L),
+                () -> assertThat(pet.getName()).isEqualTo(compact.name()),
+                () -> assertThat(pet.getCategory().getName()).isEqualTo(compact.category().name()),
+                () -> assertThat(pet.getTags()).hasSize(2),
+                () -> assertThat(pet.getStatus()).isEqualTo(Pet.PetStatus.SOLD)
+        );
+    }
+
+    @Test
+    @Tag("load")
+    @EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+    @DisplayName("Should allocate less per compact pet than per regular pet")
+    void shouldAllocateLessPerCompactPet() {
+        Map<String, Long> allocated = new GeneratorAllocationBenchmark(2_000, 10_000).run().stream()
+                .collect(Collectors.toMap(GeneratorAllocationBenchmark.Result::getVariant,
+                        GeneratorAllocationBenchmark.Result::getAllocatedBytesPerPet));
+
+        assertThat(allocated.get("compact")).isLessThan(allocated.get("pet"));
+        assertThat(allocated.get("compact+json")).isLessThan(allocated.get("pet+json"));
+    }
+}
@@ -1,17 +1,25 @@
 package ru.dzhioev.petstore;
 
 import ru.dzhioev.petstore.api.clients.UserClient;
+import ru.dzhioev.petstore.api.clients.UserSession;
+import ru.dzhioev.petstore.api.clients.UserSessionPool;
 import ru.dzhioev.petstore.api.models.User;
+import ru.dzhioev.petstore.api.schemas.ResponseSchema;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.extensions.Fixture;
+import ru.dzhioev.petstore.load.BulkCreateResult;
 import ru.dzhioev.petstore.utils.TestDataGenerator;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static ru.dzhioev.petstore.api.schemas.SchemaValidator.matchesSchema;
 
 @Tag("user")
 @Tag("regression")
@@ -43,11 +51,13 @@ class UserTests {
 
                 userClient.createUser(user)
                         .then()
-                        .statusCode(200);
+                        .statusCode(200)
+                        .body(matchesSchema(ResponseSchema.API_RESPONSE));
 
                 User retrievedUser = userClient.getUserByUsername(uniqueUsername)
                         .then()
                         .statusCode(200)
+                        .body(matchesSchema(ResponseSchema.USER))
                         .extract()
                         .as(User.class);
 
@@ -170,6 +180,29 @@ class UserTests {
 
                 userClient.deleteUser(uniqueUsername);
             }
+
+            @Test
+            @DisplayName("Should create users with streamed array")
+            void shouldCreateUsersWithStreamedArray() {
+                String timestamp = String.valueOf(System.currentTimeMillis());
+                List<User> users = TestDataGenerator.generateUserList(3);
+
+                for (int i = 0; i < users.size(); i++) {
+                    users.get(i).setUsername("streamuser" + i + "_" + timestamp);
+                }
+
+                userClient.createUsersWithArray(users.stream())
+                        .then()
+                        .statusCode(200);
+
+                users.forEach(user ->
+                        userClient.getUserByUsername(user.getUsername())
+                                .then()
+                                .statusCode(200)
+                );
+
+                users.forEach(user -> userClient.deleteUser(user.getUsername()));
+            }
         }
     }
 
@@ -206,6 +239,34 @@ class UserTests {
         }
     }
 
+    @Nested
+    @DisplayName("Bulk User Creation Tests")
+    class BulkUserCreationTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 5, 10})
+        @DisplayName("Should create users in batches of size: {0}")
+        void shouldCreateUsersInBatches(int batchSize) {
+            String timestamp = String.valueOf(System.currentTimeMillis());
+            List<User> users = TestDataGenerator.generateUserList(10);
+
+            for (int i = 0; i < users.size(); i++) {
+                users.get(i).setUsername("bulkuser" + batchSize + "_" + i + "_" + timestamp);
+            }
+
+            BulkCreateResult result = userClient.createUsersInBatches(users, batchSize, 4);
+
+            assertAll(
+                    () -> assertThat(result.isSuccessful()).isTrue(),
+                    () -> assertThat(result.getCreatedCount()).isEqualTo(users.size()),
+                    () -> assertThat(result.getTotalBatches()).isEqualTo((users.size() + batchSize - 1) / batchSize),
+                    () -> assertThat(result.getEntitiesPerSecond()).isPositive()
+            );
+
+            users.forEach(user -> userClient.deleteUser(user.getUsername()));
+        }
+    }
+
     @Nested
     @DisplayName("GET /user/{username} Tests")
     class GetUserByUsernameTests {
@@ -214,19 +275,9 @@ class UserTests {
         private String uniqueUsername;
 
         @BeforeEach
-        void setUp() {
-            uniqueUsername = "testuser_" + System.currentTimeMillis();
-            existingUser = TestDataGenerator.generateUser();
-            existingUser.setUsername(uniqueUsername);
-
-            userClient.createUser(existingUser)
-                    .then()
-                    .statusCode(200);
-        }
-
-        @AfterEach
-        void tearDown() {
-            userClient.deleteUser(uniqueUsername);
+        void setUp(@Fixture User user) {
+            existingUser = user;
+            uniqueUsername = user.getUsername();
         }
 
         @Nested
@@ -331,7 +382,7 @@ class UserTests {
 
         @AfterEach
         void tearDown() {
-            userClient.deleteUser(uniqueUsername);
+            CleanupQueue.getInstance().deleteUser(uniqueUsername);
         }
 
         @Nested
@@ -503,25 +554,11 @@ class UserTests {
     @DisplayName("GET /user/login Tests")
     class LoginUserTests {
 
-        private String uniqueUsername;
+        private UserSession session;
 
         @BeforeEach
-        void setUp() {
-            uniqueUsername = "loginuser_" + System.currentTimeMillis();
-            User testUser = User.builder()
-                    .username(uniqueUsername)
-                    .password("testpassword123")
-                    .email("login@test.com")
-                    .build();
-
-            userClient.createUser(testUser)
-                    .then()
-                    .statusCode(200);
-        }
-
-        @AfterEach
-        void tearDown() {
-            userClient.deleteUser(uniqueUsername);
+        void setUp(UserSession session) {
+            this.session = session;
         }
 
         @Nested
@@ -531,7 +568,7 @@ class UserTests {
             @Test
             @DisplayName("Should login with valid credentials")
             void shouldLoginWithValidCredentials() {
-                userClient.loginUser(uniqueUsername, "testpassword123")
+                userClient.loginUser(session.getUsername(), session.getPassword())
                         .then()
                         .statusCode(200);
             }
@@ -544,7 +581,7 @@ class UserTests {
             @Test
             @DisplayName("Should return 400 for wrong password")
             void shouldReturn400ForWrongPassword() {
-                userClient.loginUser(uniqueUsername, "wrongpassword")
+                userClient.loginUser(session.getUsername(), "wrongpassword")
                         .then()
                         .statusCode(400);
             }
@@ -692,5 +729,19 @@ class UserTests {
 
             userClient.deleteUser(uniqueUsername);
         }
+
+        @Test
+        @DisplayName("Should reuse pooled sessions without logging in again")
+        void shouldReusePooledSessionsWithoutLoggingInAgain() {
+            try (UserSessionPool pool = userClient.createSessionPool(2)) {
+                for (int i = 0; i < 10; i++) {
+                    try (UserSessionPool.Lease lease = pool.lease()) {
+                        assertThat(lease.getSession().getToken()).isNotBlank();
+                    }
+                }
+
+                assertThat(pool.getLoginCount()).isEqualTo(2);
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package ru.dzhioev.petstore.extensions;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.cleanup.CleanupReport;
+import ru.dzhioev.petstore.cleanup.ResourceRegistry;
+import ru.dzhioev.petstore.cleanup.ResourceSweeper;
+import ru.dzhioev.petstore.config.TestConfig;
+
+/**
+ * Before the first test class runs, deletes the resources a previous run leaked, as recovered from
+ * the {@link ResourceRegistry} journal ({@code cleanup.sweep.leftovers}). Afterwards, waits for the
+ * deferred teardown of each top-level test class before the next one starts and reports cleanup
+ * failures without failing any test.
+ */
+@Slf4j
+public class CleanupQueueExtension implements BeforeAllCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(CleanupQueueExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!Boolean.parseBoolean(TestConfig.getInstance().property("cleanup.sweep.leftovers", "true"))) {
+            return;
+        }
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(ResourceSweeper.class, key -> {
+            if (ResourceRegistry.getInstance().getRecoveredCount() > 0) {
+                new ResourceSweeper().sweep();
+            }
+            return Boolean.TRUE;
+        });
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        if (context.getRequiredTestClass().getEnclosingClass() != null) {
+            return;
+        }
+        CleanupReport report = CleanupQueue.getInstance().awaitCompletion();
+        if (report.isClean()) {
+            log.debug("Deferred cleanup of {} finished: {} deleted", context.getDisplayName(), report.getCompleted());
+        } else {
+            log.warn("Deferred cleanup of {} finished with {} failures: {}", context.getDisplayName(),
+                    report.getFailed(), report.getFailures());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ru.dzhioev.petstore.extensions;
+
+import ru.dzhioev.petstore.api.models.Pet;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects a shared, pre-created {@code Pet}, {@code Order} or {@code User} from the fixture pool.
+ * Fixtures are read-only: every injection is a fresh copy, and tests must not update or delete
+ * the entity on the server.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Fixture {
+
+    Pet.PetStatus status() default Pet.PetStatus.AVAILABLE;
+}
@@ -0,0 +1,88 @@
+package ru.dzhioev.petstore.extensions;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.api.clients.PetClient;
+import ru.dzhioev.petstore.api.clients.StoreClient;
+import ru.dzhioev.petstore.api.clients.UserClient;
+import ru.dzhioev.petstore.api.models.Order;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.models.User;
+import ru.dzhioev.petstore.cleanup.CleanupQueue;
+import ru.dzhioev.petstore.utils.JsonUtils;
+import ru.dzhioev.petstore.utils.TestDataGenerator;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read-only fixtures shared by the whole run: one pet per status, an order for the available pet
+ * and a user. They are created concurrently on first use and deleted when JUnit closes the root
+ * store. Each fixture is kept as the JSON returned by the server, so every injection is a copy.
+ */
+@Slf4j
+final class FixturePool implements AutoCloseable {
+
+    private final Map<Pet.PetStatus, String> pets = new EnumMap<>(Pet.PetStatus.class);
+    private final String order;
+    private final String user;
+
+    FixturePool() {
+        long start = System.nanoTime();
+        PetClient petClient = new PetClient();
+        StoreClient storeClient = new StoreClient();
+        UserClient userClient = new UserClient();
+
+        Map<Pet.PetStatus, CompletableFuture<Response>> petFutures = new EnumMap<>(Pet.PetStatus.class);
+        for (Pet.PetStatus status : Pet.PetStatus.values()) {
+            petFutures.put(status, petClient.addPetAsync(TestDataGenerator.generatePetWithStatus(status)));
+        }
+        User newUser = TestDataGenerator.generateUser();
+        newUser.setUsername("fixture_" + TestDataGenerator.generateValidId());
+        CompletableFuture<Response> userFuture = userClient.createUserAsync(newUser);
+        CompletableFuture<Response> orderFuture = petFutures.get(Pet.PetStatus.AVAILABLE)
+                .thenCompose(response -> storeClient.placeOrderAsync(
+                        TestDataGenerator.generatePlacedOrder(response.as(Pet.class).getId())));
+
+        petFutures.forEach((status, future) -> pets.put(status, bodyOf(future, "pet " + status)));
+        order = bodyOf(orderFuture, "order");
+        bodyOf(userFuture, "user " + newUser.getUsername());
+        user = JsonUtils.mapper().writeValueAsString(newUser);
+        log.debug("Created fixture pool in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    Object get(Class<?> type, Pet.PetStatus status) {
+        String json;
+        if (type == Pet.class) {
+            json = pets.get(status);
+        } else if (type == Order.class) {
+            json = order;
+        } else if (type == User.class) {
+            json = user;
+        } else {
+            throw new IllegalArgumentException("No fixtures of type " + type.getName());
+        }
+        return JsonUtils.mapper().readValue(json, type);
+    }
+
+    @Override
+    public void close() {
+        CleanupQueue cleanup = CleanupQueue.getInstance();
+        cleanup.deleteOrder(((Order) get(Order.class, null)).getId());
+        for (Pet.PetStatus status : pets.keySet()) {
+            cleanup.deletePet(((Pet) get(Pet.class, status)).getId());
+        }
+        cleanup.deleteUser(((User) get(User.class, null)).getUsername());
+        cleanup.awaitIdle();
+    }
+
+    private static String bodyOf(CompletableFuture<Response> future, String description) {
+        Response response = future.join();
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Failed to create fixture " + description
+                    + ": status " + response.getStatusCode());
+        }
+        return response.asString();
+    }
+}
@@ -0,0 +1,33 @@
+package ru.dzhioev.petstore.extensions;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import ru.dzhioev.petstore.api.models.Order;
+import ru.dzhioev.petstore.api.models.Pet;
+import ru.dzhioev.petstore.api.models.User;
+
+import java.util.Set;
+
+/**
+ * Resolves {@link Fixture} parameters from a {@link FixturePool} shared through the root store.
+ */
+public class FixturePoolExtension implements ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FixturePoolExtension.class);
+    private static final Set<Class<?>> FIXTURE_TYPES = Set.of(Pet.class, Order.class, User.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.isAnnotated(Fixture.class)
+                && FIXTURE_TYPES.contains(parameterContext.getParameter().getType());
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Fixture fixture = parameterContext.findAnnotation(Fixture.class).orElseThrow();
+        FixturePool pool = extensionContext.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(FixturePool.class, key -> new FixturePool(), FixturePool.class);
+        return pool.get(parameterContext.getParameter().getType(), fixture.status());
+    }
+}
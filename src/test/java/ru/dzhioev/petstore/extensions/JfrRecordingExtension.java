@@ -0,0 +1,22 @@
+package ru.dzhioev.petstore.extensions;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import ru.dzhioev.petstore.profiling.JfrSession;
+
+/**
+ * With {@code -Djfr.enabled=true}, records the whole run with Flight Recorder. The session sits in
+ * the root store, so JUnit closes it, and with it saves and summarizes the recording, at the end.
+ */
+public class JfrRecordingExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(JfrRecordingExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (JfrSession.isEnabled()) {
+            context.getRoot().getStore(NAMESPACE)
+                    .getOrComputeIfAbsent(JfrSession.class, key -> JfrSession.start("petstore-tests"), JfrSession.class);
+        }
+    }
+}
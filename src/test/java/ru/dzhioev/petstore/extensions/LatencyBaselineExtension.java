@@ -0,0 +1,80 @@
+package ru.dzhioev.petstore.extensions;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.load.EndpointLatencyRecorder;
+import ru.dzhioev.petstore.load.EndpointProfile;
+import ru.dzhioev.petstore.load.LatencyRegression;
+import ru.dzhioev.petstore.load.LatencyRegressionCheck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * At the end of the run saves the per-endpoint latency profile and compares it with the baseline
+ * named by {@code latency.baseline.file}, which has to be committed or supplied to the run.
+ * Regressions fail the run; a missing baseline is reported and never created implicitly. With
+ * {@code -Dlatency.baseline.update=true} the profile is written to that file instead.
+ */
+@Slf4j
+public class LatencyBaselineExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(LatencyBaselineExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(BaselineComparison.class, key -> new BaselineComparison(), BaselineComparison.class);
+    }
+
+    private static final class BaselineComparison implements AutoCloseable {
+
+        private final TestConfig config = TestConfig.getInstance();
+
+        @Override
+        public void close() {
+            List<EndpointProfile> profiles = EndpointLatencyRecorder.getInstance().snapshot();
+            if (profiles.isEmpty()) {
+                return;
+            }
+            Path profileFile = Path.of(config.property("latency.profile.file", "target/latency-profile.tsv"));
+            LatencyRegressionCheck.save(profileFile, profiles);
+            log.info("Saved latency profile of {} endpoints to {}", profiles.size(), profileFile);
+
+            String baselineProperty = config.property("latency.baseline.file", "");
+            if (baselineProperty.isBlank()) {
+                log.info("No latency.baseline.file set, skipping the latency regression check");
+                return;
+            }
+            Path baselineFile = Path.of(baselineProperty);
+            if (Boolean.parseBoolean(config.property("latency.baseline.update", "false"))) {
+                LatencyRegressionCheck.save(baselineFile, profiles);
+                log.info("Saved latency baseline to {}", baselineFile);
+                return;
+            }
+            if (!Files.exists(baselineFile)) {
+                log.warn("Latency baseline {} does not exist, skipping the regression check;"
+                        + " record one with -Dlatency.baseline.update=true", baselineFile);
+                return;
+            }
+            if (!Boolean.parseBoolean(config.property("latency.regression.enabled", "true"))) {
+                return;
+            }
+
+            LatencyRegressionCheck check = LatencyRegressionCheck.fromConfig(config);
+            List<EndpointProfile> baseline = LatencyRegressionCheck.load(baselineFile);
+            log.info("Comparing {} of {} endpoints with enough samples in both runs against {}",
+                    check.comparable(baseline, profiles).size(), profiles.size(), baselineFile);
+            List<LatencyRegression> regressions = check.compare(baseline, profiles);
+            if (!regressions.isEmpty()) {
+                throw new AssertionError("Latency regressions against " + baselineFile + ":\n"
+                        + regressions.stream().map(LatencyRegression::describe).collect(Collectors.joining("\n")));
+            }
+            log.info("No latency regressions against {}", baselineFile);
+        }
+    }
+}
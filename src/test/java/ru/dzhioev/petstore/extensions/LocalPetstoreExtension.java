@@ -0,0 +1,33 @@
+package ru.dzhioev.petstore.extensions;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import ru.dzhioev.petstore.config.TestConfig;
+import ru.dzhioev.petstore.standin.LocalPetstore;
+
+/**
+ * With {@code -Dstandin.enabled=true}, starts the off-heap {@link LocalPetstore} once per run. The
+ * server sits in the root store, so JUnit stops it at the end. Point {@code base.url} at it to
+ * route the clients there.
+ */
+@Slf4j
+public class LocalPetstoreExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(LocalPetstoreExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        TestConfig config = TestConfig.getInstance();
+        if (!Boolean.parseBoolean(config.property("standin.enabled", "false"))) {
+            return;
+        }
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(LocalPetstore.class, key -> {
+            LocalPetstore petstore = LocalPetstore.fromConfig(config);
+            if (!petstore.getBaseUrl().equals(config.getBaseUrl())) {
+                log.warn("Local Petstore runs at {} but base.url is {}", petstore.getBaseUrl(), config.getBaseUrl());
+            }
+            return petstore;
+        }, LocalPetstore.class);
+    }
+}
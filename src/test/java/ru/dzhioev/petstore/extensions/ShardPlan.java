@@ -0,0 +1,72 @@
+package ru.dzhioev.petstore.extensions;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns test units to shards with the longest-processing-time-first heuristic over recorded
+ * durations. Units without history are estimated at the median recorded duration, or all weigh the
+ * same when there is no history at all, and go through the same assignment. Units that were not
+ * known when the plan was made fall back to a stable hash. The plan is only the same on every JVM
+ * if all of them are given the same units and estimates.
+ */
+@Slf4j
+class ShardPlan {
+
+    private static final long NO_HISTORY_ESTIMATE = 1;
+
+    private final int shardCount;
+    private final Map<String, Integer> assignments = new HashMap<>();
+
+    ShardPlan(Collection<String> knownUnits, Map<String, Long> estimates, int shardCount) {
+        this.shardCount = shardCount;
+
+        long missingEstimate = median(estimates.values());
+        Map<String, Long> planned = new HashMap<>(estimates);
+        long missing = knownUnits.stream()
+                .filter(unit -> planned.putIfAbsent(unit, missingEstimate) == null)
+                .count();
+
+        List<Map.Entry<String, Long>> units = new ArrayList<>(planned.entrySet());
+        units.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        long[] loads = new long[shardCount];
+        for (Map.Entry<String, Long> unit : units) {
+            int target = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (loads[shard] < loads[target]) {
+                    target = shard;
+                }
+            }
+            loads[target] += unit.getValue();
+            assignments.put(unit.getKey(), target);
+        }
+
+        log.info("Planned {} units, {} of them without history estimated at {} ms",
+                units.size(), missing, missingEstimate);
+        for (int shard = 0; shard < shardCount; shard++) {
+            log.info("Shard {}/{}: estimated {} ms", shard, shardCount, loads[shard]);
+        }
+    }
+
+    int shardOf(String unit) {
+        Integer assigned = assignments.get(unit);
+        return assigned != null ? assigned : Math.floorMod(unit.hashCode(), shardCount);
+    }
+
+    private static long median(Collection<Long> durations) {
+        if (durations.isEmpty()) {
+            return NO_HISTORY_ESTIMATE;
+        }
+        long[] sorted = durations.stream().mapToLong(Long::longValue).sorted().toArray();
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
@@ -0,0 +1,117 @@
+package ru.dzhioev.petstore.extensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs only the test units (first-level nested classes, or top-level classes for tests declared
+ * directly in them) assigned to {@code shard.index} of {@code shard.count}, and records unit
+ * durations for balancing the next run. Registered globally through extension autodetection.
+ * <p>
+ * Every node must compute the same plan, so durations are only used when {@code shard.plan.file}
+ * points to a history shared by all nodes (committed, or merged from the previous run's shards).
+ * The local {@code test.history.file} differs per node and is never used for the plan. The units
+ * themselves are found by scanning the test package, so units missing from the history are
+ * balanced too.
+ */
+public class ShardingExtension implements ExecutionCondition, BeforeAllCallback, AfterAllCallback {
+
+    static final String UNIT_PREFIX = "unit:";
+    private static final String TEST_PACKAGE = "ru.dzhioev.petstore";
+    static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ShardingExtension.class);
+
+    private static final TestConfig config = TestConfig.getInstance();
+    private static ShardPlan plan;
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        int shardCount = config.getShardCount();
+        if (shardCount <= 1 || context.getTestClass().isEmpty()) {
+            return ConditionEvaluationResult.enabled("Sharding disabled");
+        }
+
+        Class<?> testClass = context.getTestClass().get();
+        boolean topLevelClassContext = testClass.getEnclosingClass() == null && context.getTestMethod().isEmpty();
+        if (topLevelClassContext) {
+            return ConditionEvaluationResult.enabled("Top-level classes are split by their nested classes");
+        }
+
+        String unit = unitOf(testClass);
+        int shard = plan().shardOf(unit);
+        return shard == config.getShardIndex()
+                ? ConditionEvaluationResult.enabled(unit + " is assigned to this shard")
+                : ConditionEvaluationResult.disabled(unit + " is assigned to shard " + shard + " of " + shardCount);
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        TestHistoryWriter.register(context);
+        if (isUnit(context.getRequiredTestClass())) {
+            context.getStore(NAMESPACE).put("start", System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove("start", Long.class);
+        if (start != null) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            TestHistory.getInstance().record(UNIT_PREFIX + unitOf(context.getRequiredTestClass()), millis, 0);
+        }
+    }
+
+    static String unitOf(Class<?> testClass) {
+        Class<?> unit = testClass;
+        while (unit.getEnclosingClass() != null && unit.getEnclosingClass().getEnclosingClass() != null) {
+            unit = unit.getEnclosingClass();
+        }
+        return unit.getName();
+    }
+
+    private static boolean isUnit(Class<?> testClass) {
+        Class<?> enclosing = testClass.getEnclosingClass();
+        return enclosing != null && enclosing.getEnclosingClass() == null;
+    }
+
+    private static synchronized ShardPlan plan() {
+        if (plan == null) {
+            String planFile = config.property("shard.plan.file", "");
+            Map<String, Long> estimates = planFile.isBlank()
+                    ? Map.of()
+                    : TestHistory.read(Paths.get(planFile)).estimates(UNIT_PREFIX);
+            plan = new ShardPlan(discoverUnits(), estimates, config.getShardCount());
+        }
+        return plan;
+    }
+
+    private static List<String> discoverUnits() {
+        List<String> units = new ArrayList<>();
+        for (Class<?> testClass : ReflectionSupport.findAllClassesInPackage(TEST_PACKAGE,
+                candidate -> candidate.getEnclosingClass() == null, name -> true)) {
+            boolean hasOwnTests = !ReflectionSupport.findMethods(testClass,
+                    method -> AnnotationSupport.isAnnotated(method, Testable.class),
+                    HierarchyTraversalMode.TOP_DOWN).isEmpty();
+            if (hasOwnTests) {
+                units.add(testClass.getName());
+            }
+            ReflectionSupport.findNestedClasses(testClass, nested -> AnnotationSupport.isAnnotated(nested, Nested.class))
+                    .forEach(nested -> units.add(nested.getName()));
+        }
+        return units;
+    }
+}
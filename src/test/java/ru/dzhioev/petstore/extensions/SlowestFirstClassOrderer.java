@@ -0,0 +1,31 @@
+package ru.dzhioev.petstore.extensions;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Starts the test classes with the longest recorded duration first. A class is estimated by the
+ * sum of its recorded sharding units; classes without history go first.
+ */
+public class SlowestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        Map<String, Long> units = TestHistory.getInstance().estimates(ShardingExtension.UNIT_PREFIX);
+        context.getClassDescriptors().sort(Comparator.comparingLong((ClassDescriptor descriptor) ->
+                estimate(descriptor.getTestClass(), units)).reversed());
+    }
+
+    private static long estimate(Class<?> testClass, Map<String, Long> units) {
+        String name = testClass.getName();
+        long total = units.entrySet().stream()
+                .filter(unit -> unit.getKey().equals(name) || unit.getKey().startsWith(name + "$"))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        return total == 0 ? Long.MAX_VALUE : total;
+    }
+}
@@ -0,0 +1,143 @@
+package ru.dzhioev.petstore.extensions;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Results of previous runs, one line per key: {@code key<TAB>ms:calls,ms:calls,...} (oldest first).
+ * Later lines override earlier ones, so history files of several shards can simply be concatenated.
+ */
+@Slf4j
+class TestHistory {
+
+    private static final int MAX_SAMPLES = 10;
+    private static TestHistory instance;
+
+    private final Path file;
+    private final Map<String, Deque<Sample>> samples = new ConcurrentHashMap<>();
+
+    record Sample(long millis, long httpCalls) {
+    }
+
+    private TestHistory(Path file) {
+        this.file = file;
+        load();
+    }
+
+    static synchronized TestHistory getInstance() {
+        if (instance == null) {
+            instance = new TestHistory(Paths.get(TestConfig.getInstance()
+                    .property("test.history.file", ".petstore/test-history.tsv")));
+        }
+        return instance;
+    }
+
+    /**
+     * Reads a history file without making it the one this run records into.
+     */
+    static TestHistory read(Path file) {
+        return new TestHistory(file);
+    }
+
+    void record(String key, long millis, long httpCalls) {
+        Deque<Sample> history = samples.computeIfAbsent(key, k -> new ArrayDeque<>());
+        synchronized (history) {
+            history.addLast(new Sample(millis, httpCalls));
+            while (history.size() > MAX_SAMPLES) {
+                history.removeFirst();
+            }
+        }
+    }
+
+    List<Sample> samples(String key) {
+        Deque<Sample> history = samples.get(key);
+        if (history == null) {
+            return List.of();
+        }
+        synchronized (history) {
+            return List.copyOf(history);
+        }
+    }
+
+    OptionalLong estimate(String key) {
+        List<Sample> history = samples(key);
+        if (history.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Math.round(history.stream().mapToLong(Sample::millis).average().getAsDouble()));
+    }
+
+    Map<String, Long> estimates(String prefix) {
+        Map<String, Long> result = new TreeMap<>();
+        samples.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .forEach(key -> estimate(key).ifPresent(value -> result.put(key.substring(prefix.length()), value)));
+        return result;
+    }
+
+    synchronized void save() {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (String key : new TreeMap<>(samples).keySet()) {
+                    List<String> values = samples(key).stream()
+                            .map(sample -> sample.millis() + ":" + sample.httpCalls())
+                            .toList();
+                    writer.write(key + "\t" + String.join(",", values));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Cannot save test history to {}", file, e);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            log.info("No test history at {}, using deterministic defaults", file);
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (line.isBlank() || line.startsWith("#") || tab < 0) {
+                    continue;
+                }
+                Deque<Sample> history = new ArrayDeque<>();
+                for (String value : line.substring(tab + 1).split(",")) {
+                    if (!value.isBlank()) {
+                        history.addLast(parseSample(value.trim()));
+                    }
+                }
+                samples.put(line.substring(0, tab), history);
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Cannot read test history from {}, ignoring it", file, e);
+            samples.clear();
+        }
+    }
+
+    private static Sample parseSample(String value) {
+        int colon = value.indexOf(':');
+        if (colon < 0) {
+            return new Sample(Long.parseLong(value), 0);
+        }
+        return new Sample(Long.parseLong(value.substring(0, colon)), Long.parseLong(value.substring(colon + 1)));
+    }
+}
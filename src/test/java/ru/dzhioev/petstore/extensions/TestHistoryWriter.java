@@ -0,0 +1,73 @@
+package ru.dzhioev.petstore.extensions;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-test results of the current run and, when JUnit closes the root store at the end
+ * of the run, appends them to the history, prints the slowest tests with their trend and saves.
+ */
+@Slf4j
+final class TestHistoryWriter implements AutoCloseable {
+
+    static final String TEST_PREFIX = "test:";
+    static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestHistoryWriter.class);
+
+    private static final int TREND_RUNS = 5;
+
+    private final Map<String, LongAdder[]> currentRun = new ConcurrentHashMap<>();
+
+    static TestHistoryWriter register(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(TestHistoryWriter.class, key -> new TestHistoryWriter(), TestHistoryWriter.class);
+    }
+
+    void addTestResult(String test, long millis, long httpCalls) {
+        LongAdder[] totals = currentRun.computeIfAbsent(test, key -> new LongAdder[]{new LongAdder(), new LongAdder()});
+        totals[0].add(millis);
+        totals[1].add(httpCalls);
+    }
+
+    @Override
+    public void close() {
+        TestHistory history = TestHistory.getInstance();
+        currentRun.forEach((test, totals) -> history.record(TEST_PREFIX + test, totals[0].sum(), totals[1].sum()));
+        printSlowestTests(history);
+        history.save();
+    }
+
+    private void printSlowestTests(TestHistory history) {
+        int top = Integer.parseInt(TestConfig.getInstance().property("test.history.top", "10"));
+        List<Map.Entry<String, LongAdder[]>> slowest = currentRun.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder[]> entry) -> entry.getValue()[0].sum())
+                        .reversed())
+                .limit(top)
+                .toList();
+        if (slowest.isEmpty()) {
+            return;
+        }
+
+        StringBuilder report = new StringBuilder("Top ").append(slowest.size()).append(" slowest tests:\n")
+                .append(String.format("%10s %6s %10s %8s  %s", "ms", "calls", "avg prev", "trend", "test"));
+        for (Map.Entry<String, LongAdder[]> entry : slowest) {
+            long millis = entry.getValue()[0].sum();
+            List<TestHistory.Sample> samples = history.samples(TEST_PREFIX + entry.getKey());
+            List<TestHistory.Sample> previous = samples.subList(Math.max(0, samples.size() - 1 - TREND_RUNS),
+                    Math.max(0, samples.size() - 1));
+            double average = previous.stream().mapToLong(TestHistory.Sample::millis).average().orElse(Double.NaN);
+            String trend = Double.isNaN(average) || average == 0
+                    ? "new"
+                    : String.format("%+.0f%%", (millis - average) * 100 / average);
+            report.append('\n').append(String.format("%10d %6d %10s %8s  %s", millis, entry.getValue()[1].sum(),
+                    Double.isNaN(average) ? "-" : String.format("%.0f", average), trend, entry.getKey()));
+        }
+        log.info(report.toString());
+    }
+}
@@ -0,0 +1,44 @@
+package ru.dzhioev.petstore.extensions;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import ru.dzhioev.petstore.api.transport.HttpCallCounter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures wall time and HTTP calls of every test method (all invocations of a parameterized
+ * test are summed) for the run history and the slowest-tests report. Calls are counted in a scope
+ * kept in the test's store, so calls made on threads the test starts are included.
+ */
+public class TestTimingExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestTimingExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        TestHistoryWriter.register(context);
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put("calls", HttpCallCounter.openScope());
+        store.put("start", System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        Long start = store.remove("start", Long.class);
+        HttpCallCounter.Scope calls = store.remove("calls", HttpCallCounter.Scope.class);
+        if (start == null || calls == null) {
+            return;
+        }
+        calls.close();
+        TestHistoryWriter.register(context).addTestResult(testKey(context),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                calls.getCount());
+    }
+
+    static String testKey(ExtensionContext context) {
+        return context.getRequiredTestClass().getName() + "#" + context.getRequiredTestMethod().getName();
+    }
+}
@@ -0,0 +1,38 @@
+package ru.dzhioev.petstore.extensions;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import ru.dzhioev.petstore.api.clients.UserClient;
+import ru.dzhioev.petstore.api.clients.UserSession;
+import ru.dzhioev.petstore.api.clients.UserSessionPool;
+import ru.dzhioev.petstore.config.TestConfig;
+
+import java.time.Duration;
+
+/**
+ * Resolves {@link UserSession} parameters with a session leased from a pool shared through the
+ * root store. The lease is kept in the requesting context's store and returned when it closes.
+ * Waiting for a free session is bounded by {@code session.lease.timeout}, so a leaked lease fails
+ * the test instead of hanging the run.
+ */
+public class UserSessionExtension implements ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(UserSessionExtension.class);
+    private static final Duration LEASE_TIMEOUT =
+            Duration.parse(TestConfig.getInstance().property("session.lease.timeout", "PT30S"));
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == UserSession.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        UserSessionPool pool = extensionContext.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(UserSessionPool.class, key -> new UserClient().createSessionPool(), UserSessionPool.class);
+        UserSessionPool.Lease lease = pool.lease(LEASE_TIMEOUT);
+        extensionContext.getStore(NAMESPACE).put(lease, lease);
+        return lease.getSession();
+    }
+}